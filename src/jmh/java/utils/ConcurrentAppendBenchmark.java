@@ -0,0 +1,52 @@
+package utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Добавление из 16 потоков: ConcurrentAppendList против
+ * SimpleArrayList под Collections.synchronizedList. Каждый поток
+ * за вызов добавляет perThread элементов в общий список,
+ * список пересоздаётся перед каждой итерацией.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ConcurrentAppendBenchmark {
+
+    @Param({"1000", "100000"})
+    public int perThread;
+
+    private List<Integer> concurrent;
+    private List<Integer> synchronizedList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        concurrent = new ConcurrentAppendList<>();
+        synchronizedList = Collections.synchronizedList(new SimpleArrayList<>());
+    }
+
+    @Benchmark
+    public int concurrentAppend() {
+        return append(concurrent);
+    }
+
+    @Benchmark
+    public int synchronizedAppend() {
+        return append(synchronizedList);
+    }
+
+    private int append(List<Integer> list) {
+        for (int i = 0; i < perThread; i++) {
+            list.add(i);
+        }
+        return perThread;
+    }
+}
@@ -0,0 +1,75 @@
+package utils;
+
+import java.util.Random;
+
+/**
+ * Форма входных данных для бенчмарков сортировки
+ */
+public enum InputShape {
+    RANDOM {
+        @Override
+        int valueAt(int i, int size, Random random) {
+            return random.nextInt();
+        }
+    },
+    SORTED {
+        @Override
+        int valueAt(int i, int size, Random random) {
+            return i;
+        }
+    },
+    REVERSED {
+        @Override
+        int valueAt(int i, int size, Random random) {
+            return size - i;
+        }
+    },
+    ALL_EQUAL {
+        @Override
+        int valueAt(int i, int size, Random random) {
+            return 42;
+        }
+    },
+    SAWTOOTH {
+        @Override
+        int valueAt(int i, int size, Random random) {
+            return i % SAWTOOTH_PERIOD;
+        }
+    };
+
+    private static final int SAWTOOTH_PERIOD = 1024;
+    private static final long SEED = 0x5EED;
+
+    abstract int valueAt(int i, int size, Random random);
+
+    /**
+     * Метод генерирует массив заданной формы
+     *
+     * @param size количество элементов
+     * @return возвращает новый массив; для одной и той же формы и размера
+     * содержимое всегда одинаково
+     */
+    public int[] ints(int size) {
+        Random random = new Random(SEED);
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = valueAt(i, size, random);
+        }
+        return result;
+    }
+
+    /**
+     * Метод генерирует массив заданной формы в упакованном виде
+     *
+     * @param size количество элементов
+     * @return возвращает новый массив Integer с теми же значениями, что и {@link #ints(int)}
+     */
+    public Integer[] boxed(int size) {
+        int[] values = ints(size);
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+package utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение QSortInt.quickSort, QSortInt.radixSort и QSortInt.parallelQuickSort с Arrays.sort
+ * и Arrays.parallelSort на массивах int.
+ * Каждый вызов сначала восстанавливает исходный массив из эталона:
+ * копирование одинаково для всех вариантов и линейно, поэтому
+ * на сравнение сортировок не влияет.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntSortBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param
+    public InputShape shape;
+
+    private int[] source;
+    private int[] work;
+    private int[] scratch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = shape.ints(size);
+        work = new int[size];
+        scratch = new int[size];
+    }
+
+    @Benchmark
+    public int[] qSortInt() {
+        System.arraycopy(source, 0, work, 0, size);
+        QSortInt.quickSort(work, 0, size - 1);
+        return work;
+    }
+
+    @Benchmark
+    public int[] qSortIntRadix() {
+        System.arraycopy(source, 0, work, 0, size);
+        QSortInt.radixSort(work, 0, size - 1, scratch);
+        return work;
+    }
+
+    @Benchmark
+    public int[] qSortIntParallel() {
+        System.arraycopy(source, 0, work, 0, size);
+        QSortInt.parallelQuickSort(work, 0, size - 1);
+        return work;
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Arrays.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Arrays.parallelSort(work);
+        return work;
+    }
+}
@@ -0,0 +1,84 @@
+package utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение основных операций SimpleArrayList и java.util.ArrayList.
+ * Вставка и удаление идут парами, чтобы размер списка между вызовами
+ * не менялся.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListOpsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param
+    public ListType listType;
+
+    private List<Integer> source;
+    private List<Integer> list;
+    private Integer element;
+    private Integer present;
+    private Integer missing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = Arrays.asList(InputShape.SORTED.boxed(size));
+        list = listType.create(size);
+        list.addAll(source);
+        element = -1;
+        present = size - 1;
+        missing = -2;
+    }
+
+    @Benchmark
+    public Integer addRemoveHead() {
+        list.add(0, element);
+        return list.remove(0);
+    }
+
+    @Benchmark
+    public Integer addRemoveMiddle() {
+        int index = size / 2;
+        list.add(index, element);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public Integer addRemoveTail() {
+        list.add(size, element);
+        return list.remove(size);
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return list.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return list.contains(missing);
+    }
+
+    @Benchmark
+    public List<Integer> addAll() {
+        List<Integer> target = listType.create(0);
+        target.addAll(source);
+        return target;
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,109 @@
+package utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение ListSorting.quickSort (в обоих режимах разбиения), ListSorting.stableSort,
+ * ListSorting.sortByIntKey,
+ * List.sort (для SimpleArrayList это SimpleArrayList.sort) и Collections.sort
+ * на списках Integer.
+ * Перед каждой сортировкой список заполняется заново из эталонного массива.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListSortBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param
+    public InputShape shape;
+
+    @Param
+    public ListType listType;
+
+    private List<Integer> source;
+    private List<Integer> work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = Arrays.asList(shape.boxed(size));
+        work = listType.create(size);
+    }
+
+    private List<Integer> refill() {
+        work.clear();
+        work.addAll(source);
+        return work;
+    }
+
+    @Benchmark
+    public List<Integer> listSortingQuickSort() {
+        List<Integer> list = refill();
+        ListSorting.quickSort(list, Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> listSortingThreeWay() {
+        List<Integer> list = refill();
+        ListSorting.quickSort(list, Comparator.naturalOrder(), PartitionMode.THREE_WAY);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> listSortingStable() {
+        List<Integer> list = refill();
+        ListSorting.stableSort(list, Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> listSortingByIntKey() {
+        List<Integer> list = refill();
+        ListSorting.sortByIntKey(list, Integer::intValue);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> listSortComparingInt() {
+        List<Integer> list = refill();
+        list.sort(Comparator.comparingInt(Integer::intValue));
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> listSort() {
+        List<Integer> list = refill();
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> simpleArrayListParallelSort() {
+        List<Integer> list = refill();
+        if (list instanceof SimpleArrayList) {
+            ((SimpleArrayList<Integer>) list).parallelSort(Comparator.naturalOrder());
+        } else {
+            list.sort(Comparator.naturalOrder());
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> collectionsSort() {
+        List<Integer> list = refill();
+        Collections.sort(list, Comparator.naturalOrder());
+        return list;
+    }
+}
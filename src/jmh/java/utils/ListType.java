@@ -0,0 +1,43 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Реализация списка, на которой запускается бенчмарк
+ */
+public enum ListType {
+    SIMPLE_ARRAY_LIST {
+        @Override
+        <E> List<E> create(int capacity) {
+            return new SimpleArrayList<>(Math.max(capacity, 1));
+        }
+    },
+    ARRAY_LIST {
+        @Override
+        <E> List<E> create(int capacity) {
+            return new ArrayList<>(capacity);
+        }
+    },
+    SIMPLE_ARRAY_DEQUE {
+        @Override
+        <E> List<E> create(int capacity) {
+            return new SimpleArrayDeque<>(capacity);
+        }
+    },
+    TIERED_ARRAY_LIST {
+        @Override
+        <E> List<E> create(int capacity) {
+            return new TieredArrayList<>();
+        }
+    },
+    LINKED_LIST {
+        @Override
+        <E> List<E> create(int capacity) {
+            return new LinkedList<>();
+        }
+    };
+
+    abstract <E> List<E> create(int capacity);
+}
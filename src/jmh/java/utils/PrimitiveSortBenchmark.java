@@ -0,0 +1,70 @@
+package utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение QSortLong и QSortDouble с Arrays.sort на массивах long и double
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveSortBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param
+    public InputShape shape;
+
+    private long[] longSource;
+    private long[] longWork;
+    private double[] doubleSource;
+    private double[] doubleWork;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] ints = shape.ints(size);
+        longSource = new long[size];
+        doubleSource = new double[size];
+        for (int i = 0; i < size; i++) {
+            longSource[i] = (long) ints[i] << 16;
+            doubleSource[i] = ints[i] / 7.0;
+        }
+        longWork = new long[size];
+        doubleWork = new double[size];
+    }
+
+    @Benchmark
+    public long[] qSortLong() {
+        System.arraycopy(longSource, 0, longWork, 0, size);
+        QSortLong.quickSort(longWork, 0, size - 1);
+        return longWork;
+    }
+
+    @Benchmark
+    public long[] arraysSortLong() {
+        System.arraycopy(longSource, 0, longWork, 0, size);
+        Arrays.sort(longWork);
+        return longWork;
+    }
+
+    @Benchmark
+    public double[] qSortDouble() {
+        System.arraycopy(doubleSource, 0, doubleWork, 0, size);
+        QSortDouble.quickSort(doubleWork, 0, size - 1);
+        return doubleWork;
+    }
+
+    @Benchmark
+    public double[] arraysSortDouble() {
+        System.arraycopy(doubleSource, 0, doubleWork, 0, size);
+        Arrays.sort(doubleWork);
+        return doubleWork;
+    }
+}
@@ -0,0 +1,143 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Двоичный формат файлов со списками. Заголовок из 16 байт: сигнатура,
+ * тип элементов и количество элементов (long); за ним идут элементы.
+ * Значения int и long записываются подряд в порядке little-endian, поэтому
+ * файл читается в массив одним копированием из отображённой в память области
+ * и может использоваться прямо из неё, см. {@link OffHeapIntList#map(java.nio.file.Path)}.
+ */
+final class BinaryListFormat {
+
+    static final int MAGIC = 0x5453494C;
+    static final int HEADER_SIZE = 16;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int TYPE_INT = 1;
+    static final int TYPE_LONG = 2;
+    static final int TYPE_OBJECT = 3;
+
+    /**
+     * Размер буфера записи
+     */
+    private static final int CHUNK_BYTES = 1 << 20;
+    /**
+     * Наибольший размер области файла, отображаемой в память за раз
+     */
+    private static final int MAP_BYTES = 1 << 30;
+
+    private BinaryListFormat() {
+    }
+
+    static void writeHeader(FileChannel channel, int type, long count) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+        header.putInt(MAGIC).putInt(type).putLong(count).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    /**
+     * Метод проверяет заголовок файла
+     *
+     * @param elementBytes наименьший размер элемента в байтах: файл должен
+     *                     вмещать count таких элементов после заголовка
+     * @return возвращает количество элементов в файле
+     * @throws IOException если файл не является файлом списка нужного типа
+     *                     или короче, чем указано в заголовке
+     */
+    static long readHeader(FileChannel channel, int type, int elementBytes) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("File is too short for a list header");
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a list file");
+        }
+        int actualType = header.getInt();
+        if (actualType != type) {
+            throw new IOException("Unexpected element type " + actualType + ", expected " + type);
+        }
+        long count = header.getLong();
+        if (count < 0 || count > (Long.MAX_VALUE - HEADER_SIZE) / elementBytes
+                || channel.size() < HEADER_SIZE + count * elementBytes) {
+            throw new IOException("File is shorter than its header says: " + count + " elements");
+        }
+        return count;
+    }
+
+    /**
+     * Метод записывает оставшиеся значения src через буфер порядка {@link #ORDER}
+     */
+    static void writeInts(FileChannel channel, IntBuffer src) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ORDER);
+        IntBuffer ints = buffer.asIntBuffer();
+        while (src.hasRemaining()) {
+            int n = Math.min(src.remaining(), ints.capacity());
+            ints.clear();
+            ints.put(src.slice().limit(n));
+            src.position(src.position() + n);
+            buffer.clear().limit(n * Integer.BYTES);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    static void writeLongs(FileChannel channel, LongBuffer src) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ORDER);
+        LongBuffer longs = buffer.asLongBuffer();
+        while (src.hasRemaining()) {
+            int n = Math.min(src.remaining(), longs.capacity());
+            longs.clear();
+            longs.put(src.slice().limit(n));
+            src.position(src.position() + n);
+            buffer.clear().limit(n * Long.BYTES);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Метод читает count значений int, начиная с позиции position файла,
+     * отображая файл в память кусками и копируя каждый кусок в массив одной операцией
+     */
+    static void readInts(FileChannel channel, long position, int[] values, int count) throws IOException {
+        int from = 0;
+        while (from < count) {
+            int n = Math.min(count - from, MAP_BYTES / Integer.BYTES);
+            map(channel, FileChannel.MapMode.READ_ONLY, position, (long) n * Integer.BYTES)
+                    .asIntBuffer().get(values, from, n);
+            from += n;
+            position += (long) n * Integer.BYTES;
+        }
+    }
+
+    static void readLongs(FileChannel channel, long position, long[] values, int count) throws IOException {
+        int from = 0;
+        while (from < count) {
+            int n = Math.min(count - from, MAP_BYTES / Long.BYTES);
+            map(channel, FileChannel.MapMode.READ_ONLY, position, (long) n * Long.BYTES)
+                    .asLongBuffer().get(values, from, n);
+            from += n;
+            position += (long) n * Long.BYTES;
+        }
+    }
+
+    static ByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(mode, position, size);
+        return buffer.order(ORDER);
+    }
+}
@@ -0,0 +1,181 @@
+package utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Потокобезопасный список только для добавления в конец, рассчитанный
+ * на много одновременно пишущих потоков. Запись не использует блокировок:
+ * <ul>
+ *     <li>поток резервирует позицию атомарным счётчиком;</li>
+ *     <li>элементы хранятся в блоках, каждый следующий вдвое больше предыдущего,
+ *     поэтому при росте уже записанные элементы не копируются. Новый блок
+ *     публикуется через compareAndSet: проигравший гонку поток берёт чужой блок;</li>
+ *     <li>элемент записывается в зарезервированную ячейку с release-семантикой.</li>
+ * </ul>
+ * Читатели видят согласованный префикс: {@link #size()} - длина начала списка,
+ * в котором записаны все ячейки, а ячейки, зарезервированные, но ещё
+ * не заполненные, в него не попадают. Элементы не меняются после записи,
+ * поэтому итератор не бросает ConcurrentModificationException и обходит
+ * префикс, видимый в момент своего создания. Значения null не допускаются.
+ *
+ * @param <E> Тип данных, хранимых в коллекции
+ */
+public class ConcurrentAppendList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Сдвиг ёмкости первого блока: первый блок вмещает 16 элементов
+     */
+    static final int FIRST_CHUNK_SHIFT = 4;
+    /**
+     * Число блоков: последний блок вмещает 2^30 элементов, блок
+     * на 2^31 элементов уже не помещается в массив
+     */
+    static final int CHUNK_COUNT = 31 - FIRST_CHUNK_SHIFT;
+    /**
+     * Суммарная ёмкость всех блоков: 16 * (2^27 - 1) = 2^31 - 16
+     */
+    static final int MAX_SIZE = (int) ((1L << (CHUNK_COUNT + FIRST_CHUNK_SHIFT)) - (1L << FIRST_CHUNK_SHIFT));
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final AtomicReferenceArray<Object[]> chunks =
+            new AtomicReferenceArray<>(CHUNK_COUNT);
+    private final AtomicLong reserved = new AtomicLong();
+    private final AtomicInteger published = new AtomicInteger();
+
+    /**
+     * Блок k вмещает 16 * 2^k элементов и начинается с индекса 16 * (2^k - 1)
+     */
+    static int chunkIndex(long index) {
+        return 63 - Long.numberOfLeadingZeros(index + (1L << FIRST_CHUNK_SHIFT)) - FIRST_CHUNK_SHIFT;
+    }
+
+    static int chunkOffset(long index, int chunk) {
+        return (int) (index + (1L << FIRST_CHUNK_SHIFT) - (1L << (chunk + FIRST_CHUNK_SHIFT)));
+    }
+
+    private Object[] chunk(int chunk) {
+        Object[] result = chunks.get(chunk);
+        if (result == null) {
+            Object[] created = new Object[1 << (chunk + FIRST_CHUNK_SHIFT)];
+            result = chunks.compareAndExchange(chunk, null, created);
+            if (result == null) {
+                result = created;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Метод добавления элемента в конец списка. Может вызываться
+     * из нескольких потоков одновременно без внешней синхронизации.
+     *
+     * @param e добавляемый элемент
+     * @return возвращает true (элемент добавляется всегда, пока есть свободная память)
+     * @throws NullPointerException  если e == null
+     * @throws IllegalStateException если список заполнен
+     */
+    @Override
+    public boolean add(E e) {
+        Objects.requireNonNull(e);
+        long index = reserved.getAndIncrement();
+        if (index >= MAX_SIZE) {
+            throw new IllegalStateException("List is full");
+        }
+        int chunk = chunkIndex(index);
+        SLOT.setRelease(chunk(chunk), chunkOffset(index, chunk), e);
+        return true;
+    }
+
+    /**
+     * Метод получения размера согласованного префикса списка: все элементы
+     * с индексами меньше результата записаны и видны вызывающему потоку
+     *
+     * @return Возвращает количество опубликованных элементов
+     */
+    @Override
+    public int size() {
+        int current = published.get();
+        long limit = Math.min(reserved.get(), MAX_SIZE);
+        int prefix = current;
+        while (prefix < limit) {
+            int chunk = chunkIndex(prefix);
+            Object[] data = chunks.get(chunk);
+            if (data == null || SLOT.getAcquire(data, chunkOffset(prefix, chunk)) == null) {
+                break;
+            }
+            prefix++;
+        }
+        if (prefix > current) {
+            published.accumulateAndGet(prefix, Math::max);
+        }
+        return prefix;
+    }
+
+    /**
+     * Метод получения элемента списка по индексу
+     *
+     * @param index индекс - номер элемента в списке, счет ведется с 0
+     * @return возвращает элемент по указанной позиции, если индекс
+     * находится за пределами опубликованного префикса выбрасывает IndexOutOfBoundsException
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= published.get()) {
+            Objects.checkIndex(index, size());
+        }
+        int chunk = chunkIndex(index);
+        return (E) chunks.get(chunk)[chunkOffset(index, chunk)];
+    }
+
+    /**
+     * Метод возвращает итератор по префиксу списка, опубликованному
+     * к моменту вызова. Элементы, добавленные позже, итератор не видит.
+     *
+     * @return возвращает итератор по списку
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new PrefixIterator(size());
+    }
+
+    private class PrefixIterator implements Iterator<E> {
+        private final int end;
+        private int pointer;
+
+        PrefixIterator(int end) {
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pointer < end;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return get(pointer++);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        int count = size();
+        Object[] result = new Object[count];
+        for (int chunk = 0, base = 0; base < count; chunk++) {
+            Object[] data = chunks.get(chunk);
+            int length = Math.min(data.length, count - base);
+            System.arraycopy(data, 0, result, base, length);
+            base += length;
+        }
+        return result;
+    }
+}
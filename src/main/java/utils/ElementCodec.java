@@ -0,0 +1,93 @@
+package utils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Двоичное представление элементов списка для
+ * {@link SimpleArrayList#writeTo(java.nio.file.Path, ElementCodec)}
+ * и {@link SimpleArrayList#readFrom(java.nio.file.Path, ElementCodec)}.
+ * Готовые кодеки не допускают null: при записи null выбрасывается NullPointerException.
+ * Каждый элемент должен занимать в файле хотя бы один байт.
+ *
+ * @param <E> Тип кодируемых элементов
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Строки: длина в байтах и байты в кодировке UTF-8
+     */
+    ElementCodec<String> STRING = new ElementCodec<>() {
+        @Override
+        public void write(DataOutput out, String e) throws IOException {
+            byte[] bytes = e.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("Negative string length: " + length);
+            }
+            // массив растёт по мере чтения: длина из повреждённого файла
+            // приводит к EOFException, а не к выделению огромного массива
+            byte[] bytes = new byte[Math.min(length, 1 << 16)];
+            int read = 0;
+            while (true) {
+                in.readFully(bytes, read, bytes.length - read);
+                read = bytes.length;
+                if (read == length) {
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+            }
+        }
+    };
+
+    ElementCodec<Integer> INTEGER = new ElementCodec<>() {
+        @Override
+        public void write(DataOutput out, Integer e) throws IOException {
+            out.writeInt(e);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public void write(DataOutput out, Long e) throws IOException {
+            out.writeLong(e);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /**
+     * Метод записывает элемент
+     *
+     * @param out поток записи
+     * @param e   записываемый элемент
+     * @throws IOException при ошибке записи
+     */
+    void write(DataOutput out, E e) throws IOException;
+
+    /**
+     * Метод читает элемент, записанный {@link #write(DataOutput, Object)}
+     *
+     * @param in поток чтения
+     * @return возвращает прочитанный элемент
+     * @throws IOException при ошибке чтения
+     */
+    E read(DataInput in) throws IOException;
+}
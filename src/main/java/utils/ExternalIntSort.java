@@ -0,0 +1,228 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Внешняя сортировка файла значений int, см. {@link QSortInt#externalSort(Path, Path, long)}.
+ * Файл делится на куски, которые помещаются в отведённую память; каждый кусок
+ * читается из отображённой в память области, сортируется {@link QSortInt#quickSort(int[], int, int)}
+ * и сбрасывается во временный файл. Затем отсортированные серии сливаются
+ * k-путевым слиянием через двоичную кучу с буферизованным чтением и записью;
+ * если серий больше {@link #MAX_MERGE_WAYS}, слияние идёт в несколько проходов.
+ */
+final class ExternalIntSort {
+
+    /**
+     * Наименьший размер куска в значениях, чтобы при очень малом бюджете
+     * не получалось слишком много временных файлов
+     */
+    static final int MIN_CHUNK_INTS = 1 << 10;
+    /**
+     * Наибольшее число серий, сливаемых за один проход: ограничивает
+     * число открытых файлов и память под буферы чтения
+     */
+    static final int MAX_MERGE_WAYS = 128;
+    private static final int MIN_BUFFER_BYTES = 1 << 13;
+    private static final int MAX_BUFFER_BYTES = 1 << 20;
+
+    private ExternalIntSort() {
+    }
+
+    static void sort(Path input, Path output, long memoryBudget) throws IOException {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive: " + memoryBudget);
+        }
+        if (Files.exists(output) && Files.isSameFile(input, output)) {
+            throw new IllegalArgumentException("Output must differ from input: " + output);
+        }
+        // массив куска и буфер поразрядной сортировки того же размера
+        int chunkInts = (int) Math.max(MIN_CHUNK_INTS,
+                Math.min(memoryBudget / (2L * Integer.BYTES), GrowthPolicy.MAX_ARRAY_SIZE));
+
+        List<Path> temporary = new ArrayList<>();
+        try {
+            List<Path> runs = new ArrayList<>();
+            long total;
+            Path directory = output.toAbsolutePath().getParent();
+            try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+                total = BinaryListFormat.readHeader(in, BinaryListFormat.TYPE_INT, Integer.BYTES);
+                if (total <= chunkInts) {
+                    int[] values = new int[(int) total];
+                    BinaryListFormat.readInts(in, BinaryListFormat.HEADER_SIZE, values, values.length);
+                    QSortInt.quickSort(values, 0, values.length - 1);
+                    try (FileChannel out = openForWrite(output)) {
+                        BinaryListFormat.writeHeader(out, BinaryListFormat.TYPE_INT, total);
+                        writeInts(out, values, values.length);
+                    }
+                    return;
+                }
+
+                int[] chunk = new int[chunkInts];
+                int[] scratch = new int[chunkInts];
+                for (long from = 0; from < total; from += chunkInts) {
+                    int count = (int) Math.min(chunkInts, total - from);
+                    BinaryListFormat.readInts(in, BinaryListFormat.HEADER_SIZE + from * Integer.BYTES, chunk, count);
+                    QSortInt.quickSort(chunk, 0, count - 1, scratch);
+                    Path run = Files.createTempFile(directory, "sort-run-", ".bin");
+                    temporary.add(run);
+                    runs.add(run);
+                    try (FileChannel out = openForWrite(run)) {
+                        writeInts(out, chunk, count);
+                    }
+                }
+            }
+
+            int bufferBytes = (int) Math.max(MIN_BUFFER_BYTES,
+                    Math.min(MAX_BUFFER_BYTES, memoryBudget / (MAX_MERGE_WAYS + 1)));
+            bufferBytes -= bufferBytes % Integer.BYTES;
+            while (runs.size() > MAX_MERGE_WAYS) {
+                List<Path> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += MAX_MERGE_WAYS) {
+                    Path run = Files.createTempFile(directory, "sort-run-", ".bin");
+                    temporary.add(run);
+                    merged.add(run);
+                    try (FileChannel out = openForWrite(run)) {
+                        merge(runs.subList(from, Math.min(from + MAX_MERGE_WAYS, runs.size())), out, bufferBytes);
+                    }
+                }
+                for (Path run : runs) {
+                    Files.deleteIfExists(run);
+                }
+                runs = merged;
+            }
+            try (FileChannel out = openForWrite(output)) {
+                BinaryListFormat.writeHeader(out, BinaryListFormat.TYPE_INT, total);
+                merge(runs, out, bufferBytes);
+            }
+        } finally {
+            for (Path run : temporary) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private static FileChannel openForWrite(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    private static void writeInts(FileChannel channel, int[] values, int count) throws IOException {
+        BinaryListFormat.writeInts(channel, IntBuffer.wrap(values, 0, count));
+    }
+
+    /**
+     * K-путевое слияние серий: вершина кучи - номер серии с наименьшим текущим значением
+     */
+    private static void merge(List<Path> runs, FileChannel out, int bufferBytes) throws IOException {
+        int k = runs.size();
+        RunReader[] readers = new RunReader[k];
+        try {
+            int[] heap = new int[k];
+            int heapSize = 0;
+            for (int r = 0; r < k; r++) {
+                readers[r] = new RunReader(FileChannel.open(runs.get(r), StandardOpenOption.READ), bufferBytes);
+                if (readers[r].advance()) {
+                    heap[heapSize++] = r;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, i, readers);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bufferBytes).order(BinaryListFormat.ORDER);
+            while (heapSize > 0) {
+                RunReader top = readers[heap[0]];
+                if (!buffer.hasRemaining()) {
+                    flush(out, buffer);
+                }
+                buffer.putInt(top.current);
+                if (!top.advance()) {
+                    heap[0] = heap[--heapSize];
+                }
+                if (heapSize > 0) {
+                    siftDown(heap, heapSize, 0, readers);
+                }
+            }
+            flush(out, buffer);
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) {
+                    reader.channel.close();
+                }
+            }
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int node, RunReader[] readers) {
+        int run = heap[node];
+        int value = readers[run].current;
+        int child;
+        while ((child = 2 * node + 1) < heapSize) {
+            if (child + 1 < heapSize && readers[heap[child + 1]].current < readers[heap[child]].current) {
+                child++;
+            }
+            if (value <= readers[heap[child]].current) {
+                break;
+            }
+            heap[node] = heap[child];
+            node = child;
+        }
+        heap[node] = run;
+    }
+
+    /**
+     * Последовательное чтение серии через буфер
+     */
+    private static class RunReader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private int current;
+
+        RunReader(FileChannel channel, int bufferBytes) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(BinaryListFormat.ORDER);
+            buffer.limit(0);
+        }
+
+        /**
+         * Метод переходит к следующему значению серии
+         *
+         * @return возвращает false, если серия закончилась
+         */
+        boolean advance() throws IOException {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                while (buffer.position() < Integer.BYTES) {
+                    if (channel.read(buffer) < 0) {
+                        return false;
+                    }
+                }
+                // значение могло прочитаться не полностью - дочитываем до границы значения
+                while (buffer.position() % Integer.BYTES != 0) {
+                    if (channel.read(buffer) < 0) {
+                        throw new IOException("Run file is truncated");
+                    }
+                }
+                buffer.flip();
+            }
+            current = buffer.getInt();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package utils;
+
+/**
+ * Стратегия роста внутреннего массива списка. Получает текущую ёмкость
+ * и возвращает новую; список сам следит, чтобы новая ёмкость была
+ * не меньше требуемой, поэтому стратегии не обязаны учитывать вставку
+ * большой пачки элементов.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Наибольшая длина массива, которую стоит запрашивать у JVM
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Удвоение ёмкости - поведение по умолчанию
+     */
+    GrowthPolicy DOUBLING = capacity -> clamp(capacity * 2L);
+
+    /**
+     * Рост в полтора раза, как у java.util.ArrayList: меньше запаса
+     * при небольшом увеличении числа копирований
+     */
+    GrowthPolicy ONE_AND_HALF = capacity -> clamp((long) capacity + (capacity >> 1));
+
+    /**
+     * Метод вычисляет ёмкость массива после роста
+     *
+     * @param capacity текущая ёмкость
+     * @return возвращает новую ёмкость
+     */
+    int grow(int capacity);
+
+    /**
+     * Рост на постоянное число элементов: запас не больше step,
+     * но число копирований линейно по размеру списка
+     *
+     * @param step на сколько элементов увеличивается ёмкость
+     * @return возвращает стратегию роста
+     */
+    static GrowthPolicy additive(int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step must be positive: " + step);
+        }
+        return capacity -> clamp((long) capacity + step);
+    }
+
+    /**
+     * Удвоение, пока ёмкость не больше maxStep, затем рост на maxStep:
+     * у небольших списков мало копирований, у огромных - ограниченный запас
+     *
+     * @param maxStep наибольшее увеличение ёмкости за один рост
+     * @return возвращает стратегию роста
+     */
+    static GrowthPolicy cappedDoubling(int maxStep) {
+        if (maxStep <= 0) {
+            throw new IllegalArgumentException("Max step must be positive: " + maxStep);
+        }
+        return capacity -> clamp((long) capacity + Math.min(capacity, maxStep));
+    }
+
+    private static int clamp(long capacity) {
+        return (int) Math.min(capacity, MAX_ARRAY_SIZE);
+    }
+}
@@ -0,0 +1,343 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * Список значений int на массиве int[]: тот же рост, вставка, удаление,
+ * поиск и сортировка, что и у {@link SimpleArrayList}, но без упаковки
+ * каждого значения в Integer.
+ */
+public class IntArrayList {
+
+    public static final int DEFAULT_INITIAL_CAPACITY = 4;
+    private int size;
+    private int modCount;
+    private int[] data;
+
+    public IntArrayList() {
+        data = new int[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    public IntArrayList(int initSize) {
+        data = new int[Math.max(initSize, 1)];
+    }
+
+    /**
+     * Метод увеличивает массив одним копированием так, чтобы в нём
+     * поместилось не меньше minCapacity значений: ёмкость растёт
+     * по {@link GrowthPolicy#DOUBLING}, но не меньше minCapacity
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array length is too large: " + Integer.toUnsignedString(minCapacity));
+        }
+        data = Arrays.copyOf(data, Math.max(GrowthPolicy.DOUBLING.grow(data.length), minCapacity));
+    }
+
+    /**
+     * Метод получения размера списка
+     *
+     * @return Возвращает количество элементов в списке
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод определения пуст ли список
+     *
+     * @return Возвращает true если список пуст, в противном случае
+     * возвращает false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Метод определения наличия значения в списке
+     *
+     * @param value значение, которое ищется в списке
+     * @return Возвращает true, если значение содержится в списке,
+     * в противном случае возвращает false
+     */
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Метод добавления значения в конец списка
+     *
+     * @param value добавляемое значение
+     * @return возвращает true (значение добавляется всегда, пока есть свободная память)
+     */
+    public boolean add(int value) {
+        modCount++;
+        if (size == data.length) {
+            grow(size + 1);
+        }
+        data[size++] = value;
+        return true;
+    }
+
+    /**
+     * Метод вставляет значение на указанную позицию в списке
+     *
+     * @param index индекс, куда вставляется значение
+     * @param value значение для вставки
+     *              Если индекс выходит за границы списка выбрасывается исключение
+     *              IndexOutOfBoundsException
+     */
+    public void add(int index, int value) {
+        Objects.checkIndex(index, size + 1);
+        modCount++;
+        if (size == data.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = value;
+        size += 1;
+    }
+
+    /**
+     * Метод добавляет все значения массива в конец списка
+     *
+     * @param values добавляемые значения
+     * @return возвращает true если в список добавлено хотя бы одно значение
+     */
+    public boolean addAll(int[] values) {
+        if (values.length == 0) {
+            return false;
+        }
+        modCount++;
+        if (values.length > data.length - size) {
+            grow(size + values.length);
+        }
+        System.arraycopy(values, 0, data, size, values.length);
+        size += values.length;
+        return true;
+    }
+
+    /**
+     * Метод получения значения по индексу
+     *
+     * @param index индекс - номер элемента в списке, счет ведется с 0
+     * @return возвращает значение по указанной позиции, если индекс
+     * находится за пределами списка выбрасывает IndexOutOfBoundsException
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return data[index];
+    }
+
+    /**
+     * Метод замены значения по индексу
+     *
+     * @param index номер элемента в списке, который надо заменить
+     * @param value новое значение
+     * @return возвращает прежнее значение. В случае неверного индекса
+     * выбрасывает IndexOutOfBoundsException
+     */
+    public int set(int index, int value) {
+        int result = get(index);
+        modCount++;
+        data[index] = value;
+        return result;
+    }
+
+    /**
+     * Метод удаления элемента по индексу
+     *
+     * @param index позиция удаляемого элемента
+     * @return возвращает удалённое значение. В случае неверного индекса
+     * выбрасывает IndexOutOfBoundsException
+     */
+    public int removeAt(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        int result = data[index];
+        size--;
+        if (index < size) {
+            System.arraycopy(data, index + 1, data, index, size - index);
+        }
+        return result;
+    }
+
+    /**
+     * Метод удаления первого вхождения значения
+     *
+     * @param value значение, которое надо удалить из списка
+     * @return возвращает true если значение было в списке, иначе возвращает false
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        if (index == -1) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Метод удаляет все элементы из списка
+     */
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+        }
+        size = 0;
+    }
+
+    /**
+     * Метод для нахождения индекса первого вхождения значения
+     *
+     * @param value значение, которое ищем в списке
+     * @return возвращает индекс первого вхождения или -1, если значения нет в списке
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод для нахождения индекса последнего вхождения значения
+     *
+     * @param value значение, которое ищем в списке
+     * @return возвращает индекс последнего вхождения или -1, если значения нет в списке
+     */
+    public int lastIndexOf(int value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод двоичного поиска в отсортированном списке
+     *
+     * @param value значение, которое ищем в списке
+     * @return возвращает индекс значения, если оно есть в списке, иначе
+     * (-(точка вставки) - 1), как {@link Arrays#binarySearch(int[], int)}
+     */
+    public int binarySearch(int value) {
+        return Arrays.binarySearch(data, 0, size, value);
+    }
+
+    /**
+     * Метод сортирует список по возрастанию сортировкой {@link QSortInt}
+     */
+    public void sort() {
+        modCount++;
+        QSortInt.quickSort(data, 0, size - 1);
+    }
+
+    /**
+     * Метод сортирует список по возрастанию параллельно, см. {@link QSortInt#parallelQuickSort(int[], int, int)}
+     */
+    public void parallelSort() {
+        modCount++;
+        QSortInt.parallelQuickSort(data, 0, size - 1);
+    }
+
+    /**
+     * Метод возвращает копию содержимого списка
+     *
+     * @return возвращает новый массив длины size()
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Метод сохраняет список в файл в двоичном формате: заголовок
+     * и значения подряд, без разбора при последующей загрузке
+     *
+     * @param path путь к файлу, существующий файл перезаписывается
+     * @throws IOException при ошибке записи
+     */
+    public void writeTo(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BinaryListFormat.writeHeader(channel, BinaryListFormat.TYPE_INT, size);
+            BinaryListFormat.writeInts(channel, IntBuffer.wrap(data, 0, size));
+        }
+    }
+
+    /**
+     * Метод загружает список, сохранённый {@link #writeTo(Path)}. Файл отображается
+     * в память, и значения копируются в массив списка целыми блоками.
+     *
+     * @param path путь к файлу
+     * @return возвращает новый список с содержимым файла
+     * @throws IOException при ошибке чтения или если файл не является файлом списка int
+     */
+    public static IntArrayList readFrom(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long count = BinaryListFormat.readHeader(channel, BinaryListFormat.TYPE_INT, Integer.BYTES);
+            if (count > GrowthPolicy.MAX_ARRAY_SIZE) {
+                throw new IOException("List is too large for an array: " + count + " elements");
+            }
+            IntArrayList list = new IntArrayList((int) count);
+            BinaryListFormat.readInts(channel, BinaryListFormat.HEADER_SIZE, list.data, (int) count);
+            list.size = (int) count;
+            return list;
+        }
+    }
+
+    /**
+     * Метод возвращает итератор по значениям списка без упаковки
+     *
+     * @return возвращает итератор по списку
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new InnerIterator();
+    }
+
+    private class InnerIterator implements PrimitiveIterator.OfInt {
+        private int pointer = 0;
+        private final int expModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return pointer < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (expModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return data[pointer++];
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(data[i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -1,50 +1,326 @@
 package utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 
 public class ListSorting {
+
     public static <T> void quickSort(List<T> list, Comparator<T> comparator) {
-        innerQuickSort(list, 0, list.size() - 1, comparator);
+        quickSort(list, comparator, PartitionMode.TWO_WAY);
+    }
+
+    /**
+     * Метод сортирует список с выбранной схемой разбиения.
+     * Элементы списка с произвольным доступом ({@link RandomAccess}) копируются
+     * в массив, сортируются в нём и записываются обратно за один проход.
+     * Последовательные списки сортируются через массив слиянием
+     * (как в {@link #stableSort(List, Comparator)}), выбранная схема
+     * разбиения для них не используется.
+     *
+     * @param list       сортируемый список
+     * @param comparator компаратор, сравнивающий элементы списка
+     * @param mode       схема разбиения, для данных с большим числом
+     *                   одинаковых ключей следует выбирать {@link PartitionMode#THREE_WAY}
+     */
+    public static <T> void quickSort(List<T> list, Comparator<T> comparator, PartitionMode mode) {
+        Comparator<Object> c = (Comparator) comparator;
+        Object[] arr = snapshot(list);
+        if (!(list instanceof RandomAccess)) {
+            Arrays.sort(arr, 0, arr.length, c);
+        } else if (mode == PartitionMode.THREE_WAY) {
+            threeWayQuickSort(arr, 0, arr.length - 1, c);
+        } else {
+            introSort(arr, 0, arr.length - 1, c);
+        }
+        writeBack(list, arr);
     }
 
     public static <T extends Comparable<? super T>> void quickSort(List<T> list) {
-        innerQuickSort(list, 0, list.size() - 1, Comparator.naturalOrder());
+        quickSort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Метод устойчиво сортирует список: равные элементы сохраняют взаимный порядок.
+     * Сортировка выполняется {@link Arrays#sort(Object[], int, int, Comparator)}
+     * (адаптивное слияние серий), поэтому список, склеенный из нескольких
+     * отсортированных частей, сортируется почти за линейное время.
+     *
+     * @param list       сортируемый список
+     * @param comparator компаратор, сравнивающий элементы списка
+     */
+    public static <T> void stableSort(List<T> list, Comparator<T> comparator) {
+        Object[] arr = snapshot(list);
+        Arrays.sort(arr, 0, arr.length, (Comparator) comparator);
+        writeBack(list, arr);
+    }
+
+    public static <T extends Comparable<? super T>> void stableSort(List<T> list) {
+        stableSort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Метод устойчиво сортирует список по целочисленному ключу.
+     * Ключ извлекается из каждого элемента ровно один раз; пары (ключ, позиция)
+     * упаковываются в long и сортируются примитивной сортировкой {@link QSortLong},
+     * после чего список переставляется за один проход.
+     *
+     * @param list         сортируемый список
+     * @param keyExtractor функция, возвращающая ключ элемента
+     */
+    public static <T> void sortByIntKey(List<T> list, ToIntFunction<? super T> keyExtractor) {
+        Object[] arr = snapshot(list);
+        long[] packed = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            packed[i] = ((long) keyExtractor.applyAsInt((T) arr[i]) << 32) | i;
+        }
+        QSortLong.quickSort(packed, 0, packed.length - 1);
+
+        Object[] sorted = new Object[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            sorted[i] = arr[(int) packed[i]];
+        }
+        writeBack(list, sorted);
+    }
+
+    /**
+     * Метод устойчиво сортирует список по ключу типа long.
+     * Ключ извлекается из каждого элемента ровно один раз, ключи сортируются
+     * вместе с позициями элементов поразрядной сортировкой,
+     * после чего список переставляется за один проход.
+     *
+     * @param list         сортируемый список
+     * @param keyExtractor функция, возвращающая ключ элемента
+     */
+    public static <T> void sortByLongKey(List<T> list, ToLongFunction<? super T> keyExtractor) {
+        Object[] arr = snapshot(list);
+        long[] keys = new long[arr.length];
+        int[] positions = new int[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            keys[i] = keyExtractor.applyAsLong((T) arr[i]);
+            positions[i] = i;
+        }
+        QSortLong.radixSortPairs(keys, positions);
+
+        Object[] sorted = new Object[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            sorted[i] = arr[positions[i]];
+        }
+        writeBack(list, sorted);
     }
 
-    private static <T> void innerQuickSort(List<T> list, int begin, int end, Comparator<T> comparator) {
+    private static <T> Object[] snapshot(List<T> list) {
+        if (!(list instanceof RandomAccess)) {
+            return list.toArray();
+        }
+        int size = list.size();
+        Object[] arr = new Object[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = list.get(i);
+        }
+        return arr;
+    }
+
+    private static <T> void writeBack(List<T> list, Object[] arr) {
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < arr.length; i++) {
+                list.set(i, (T) arr[i]);
+            }
+        } else {
+            ListIterator<T> it = list.listIterator();
+            for (Object element : arr) {
+                it.next();
+                it.set((T) element);
+            }
+        }
+    }
+
+    /**
+     * Интроспективная сортировка диапазона [begin, end] массива: разбиение Хоара
+     * с опорным элементом - медианой трёх (ninther на длинных диапазонах),
+     * рекурсия только в меньшую часть, пирамидальная сортировка после
+     * 2*log2(n) неудачных разбиений и вставки на коротких диапазонах,
+     * как в {@link QSortInt#quickSort(int[], int, int)}
+     */
+    static void introSort(Object[] arr, int begin, int end, Comparator<Object> comparator) {
         if (begin < end) {
-            int partitionIndex = partition(list, begin, end, comparator);
+            introSort(arr, begin, end, QSortInt.depthLimit(end - begin + 1), comparator);
+        }
+    }
 
-            innerQuickSort(list, begin, partitionIndex - 1, comparator);
-            innerQuickSort(list, partitionIndex + 1, end, comparator);
+    private static void introSort(Object[] arr, int begin, int end, int depth, Comparator<Object> comparator) {
+        while (end - begin >= QSortInt.INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, begin, end, comparator);
+                return;
+            }
+            int partitionIndex = partition(arr, begin, end, comparator);
+
+            if (partitionIndex - begin < end - partitionIndex) {
+                introSort(arr, begin, partitionIndex - 1, depth, comparator);
+                begin = partitionIndex + 1;
+            } else {
+                introSort(arr, partitionIndex + 1, end, depth, comparator);
+                end = partitionIndex - 1;
+            }
         }
+        insertionSort(arr, begin, end, comparator);
     }
 
-    private static <T> int partition(List<T> list, int begin, int end, Comparator<T> comparator) {
-        int pivotPos = end;
-        T pivot = list.get(pivotPos);
+    private static int partition(Object[] arr, int begin, int end, Comparator<Object> comparator) {
+        swap(arr, begin, pivotIndex(arr, begin, end, comparator));
+        Object pivot = arr[begin];
 
-        int i = (begin - 1);
-        for (int j = begin; j < end; j++) {
-            if (comparator.compare(list.get(j), pivot) <= 0) {
-                i++;
-                if (i != j) {
-                    swap(list, i, j);
+        int i = begin;
+        int j = end + 1;
+        while (true) {
+            while (comparator.compare(arr[++i], pivot) < 0) {
+                if (i == end) {
+                    break;
+                }
+            }
+            while (comparator.compare(pivot, arr[--j]) < 0) {
+                if (j == begin) {
+                    break;
                 }
             }
+            if (i >= j) {
+                break;
+            }
+            swap(arr, i, j);
+        }
+        swap(arr, begin, j);
+        return j;
+    }
+
+    private static int pivotIndex(Object[] arr, int begin, int end, Comparator<Object> comparator) {
+        int length = end - begin + 1;
+        int middle = begin + (length >>> 1);
+        if (length < QSortInt.NINTHER_THRESHOLD) {
+            return medianOfThree(arr, begin, middle, end, comparator);
+        }
+        int step = length >>> 3;
+        return medianOfThree(arr,
+                medianOfThree(arr, begin, begin + step, begin + 2 * step, comparator),
+                medianOfThree(arr, middle - step, middle, middle + step, comparator),
+                medianOfThree(arr, end - 2 * step, end - step, end, comparator),
+                comparator);
+    }
+
+    private static void insertionSort(Object[] arr, int begin, int end, Comparator<Object> comparator) {
+        for (int i = begin + 1; i <= end; i++) {
+            Object value = arr[i];
+            int j = i - 1;
+            while (j >= begin && comparator.compare(arr[j], value) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = value;
+        }
+    }
+
+    static void heapSort(Object[] arr, int begin, int end, Comparator<Object> comparator) {
+        int length = end - begin + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(arr, begin, i, length, comparator);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swap(arr, begin, begin + last);
+            siftDown(arr, begin, 0, last, comparator);
+        }
+    }
+
+    private static void siftDown(Object[] arr, int offset, int node, int length, Comparator<Object> comparator) {
+        Object value = arr[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < length) {
+            if (child + 1 < length && comparator.compare(arr[offset + child + 1], arr[offset + child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(arr[offset + child], value) <= 0) {
+                break;
+            }
+            arr[offset + node] = arr[offset + child];
+            node = child;
+        }
+        arr[offset + node] = value;
+    }
+
+    /**
+     * Трёхчастная быстрая сортировка диапазона [begin, end] массива. Рекурсия
+     * идёт только в меньшую часть, а после 2*log2(n) неудачных разбиений
+     * диапазон досортировывается пирамидальной сортировкой
+     */
+    static void threeWayQuickSort(Object[] arr, int begin, int end, Comparator<Object> comparator) {
+        if (begin < end) {
+            threeWayQuickSort(arr, begin, end, QSortInt.depthLimit(end - begin + 1), comparator);
+        }
+    }
+
+    static void threeWayQuickSort(Object[] arr, int begin, int end, int depth, Comparator<Object> comparator) {
+        while (begin < end) {
+            if (depth-- == 0) {
+                heapSort(arr, begin, end, comparator);
+                return;
+            }
+            long bounds = threeWayPartition(arr, begin, end, comparator);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+
+            if (lt - begin < end - gt) {
+                threeWayQuickSort(arr, begin, lt - 1, depth, comparator);
+                begin = gt + 1;
+            } else {
+                threeWayQuickSort(arr, gt + 1, end, depth, comparator);
+                end = lt - 1;
+            }
+        }
+    }
+
+    /**
+     * Трёхчастное разбиение диапазона: после него элементы [lt, gt] равны
+     * опорному, левее - меньше, правее - больше.
+     *
+     * @return возвращает границы lt и gt, упакованные в long: (lt << 32) | gt
+     */
+    static long threeWayPartition(Object[] arr, int begin, int end, Comparator<Object> comparator) {
+        swap(arr, begin, pivotIndex(arr, begin, end, comparator));
+        Object pivot = arr[begin];
+
+        int lt = begin;
+        int gt = end;
+        int i = begin + 1;
+        while (i <= gt) {
+            int cmp = comparator.compare(arr[i], pivot);
+            if (cmp < 0) {
+                swap(arr, lt++, i++);
+            } else if (cmp > 0) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | gt;
+    }
+
+    private static int medianOfThree(Object[] arr, int a, int b, int c, Comparator<Object> comparator) {
+        if (comparator.compare(arr[a], arr[b]) < 0) {
+            return comparator.compare(arr[b], arr[c]) < 0 ? b : (comparator.compare(arr[a], arr[c]) < 0 ? c : a);
         }
-        swap(list, i + 1, pivotPos);
-        return i + 1;
+        return comparator.compare(arr[b], arr[c]) > 0 ? b : (comparator.compare(arr[a], arr[c]) > 0 ? c : a);
     }
 
-    private static <T> void swap(List<T> list, int i, int j) {
-        T swapTemp = list.get(i);
-        list.set(i, list.get(j));
-        list.set(j, swapTemp);
+    private static void swap(Object[] arr, int i, int j) {
+        Object swapTemp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = swapTemp;
     }
 
     public static void main(String[] args) {
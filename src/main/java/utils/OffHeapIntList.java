@@ -0,0 +1,433 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * Список значений int, хранящий данные вне кучи в прямых (direct) буферах.
+ * Память выделяется сегментами одинаковой ёмкости; при росте добавляется
+ * новый сегмент, а уже записанные данные не копируются - в отличие от
+ * {@link SimpleArrayList#add(Object)}, где на время копирования живут и старый,
+ * и новый массив. Размер списка ограничен только числом сегментов, поэтому
+ * он может занимать больше 2 ГБ.
+ * <p>
+ * Память сегментов освобождается сборщиком мусора вместе с буферами
+ * после {@link #clear()} или потери ссылки на список.
+ */
+public class OffHeapIntList {
+
+    /**
+     * Ёмкость сегмента по умолчанию - 1M значений (4 МБ)
+     */
+    public static final int DEFAULT_SEGMENT_CAPACITY = 1 << 20;
+
+    private final int segmentShift;
+    private final int segmentMask;
+    private IntBuffer[] segments = new IntBuffer[4];
+    private int segmentCount;
+    private long size;
+    private int modCount;
+
+    public OffHeapIntList() {
+        this(DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * @param segmentCapacity ёмкость одного сегмента в значениях,
+     *                        округляется вверх до степени двойки
+     */
+    public OffHeapIntList(int segmentCapacity) {
+        if (segmentCapacity <= 0 || segmentCapacity > 1 << 27) {
+            throw new IllegalArgumentException("Segment capacity out of range: " + segmentCapacity);
+        }
+        segmentShift = 32 - Integer.numberOfLeadingZeros(segmentCapacity - 1);
+        segmentMask = (1 << segmentShift) - 1;
+    }
+
+    /**
+     * Метод открывает список, сохранённый {@link #writeTo(Path)} или
+     * {@link IntArrayList#writeTo(Path)}, без чтения файла в память:
+     * полные сегменты отображаются на области файла и используются напрямую,
+     * в память копируется только неполный последний сегмент. Отображённый
+     * сегмент доступен только для чтения и копируется в память при первом
+     * изменении его значений, поэтому изменения списка в файл не попадают.
+     *
+     * @param path путь к файлу
+     * @return возвращает список поверх отображённого файла
+     * @throws IOException при ошибке чтения или если файл не является файлом списка int
+     */
+    public static OffHeapIntList map(Path path) throws IOException {
+        return map(path, DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * @param path            путь к файлу
+     * @param segmentCapacity ёмкость одного сегмента в значениях,
+     *                        округляется вверх до степени двойки
+     * @return возвращает список поверх отображённого файла
+     * @throws IOException при ошибке чтения или если файл не является файлом списка int
+     * @see #map(Path)
+     */
+    public static OffHeapIntList map(Path path, int segmentCapacity) throws IOException {
+        OffHeapIntList list = new OffHeapIntList(segmentCapacity);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long count = BinaryListFormat.readHeader(channel, BinaryListFormat.TYPE_INT, Integer.BYTES);
+            long segmentBytes = (long) (list.segmentMask + 1) * Integer.BYTES;
+            long position = BinaryListFormat.HEADER_SIZE;
+            for (long remaining = count; remaining > 0; remaining -= list.segmentMask + 1) {
+                if (list.segmentCount == list.segments.length) {
+                    list.segments = Arrays.copyOf(list.segments, list.segmentCount * 2);
+                }
+                if (remaining > list.segmentMask) {
+                    list.segments[list.segmentCount++] = BinaryListFormat.map(channel,
+                            FileChannel.MapMode.READ_ONLY, position, segmentBytes).asIntBuffer();
+                } else {
+                    IntBuffer segment = list.newSegment();
+                    segment.put(BinaryListFormat.map(channel, FileChannel.MapMode.READ_ONLY,
+                            position, remaining * Integer.BYTES).asIntBuffer());
+                    list.segments[list.segmentCount++] = segment;
+                }
+                position += segmentBytes;
+            }
+            list.size = count;
+        }
+        return list;
+    }
+
+    /**
+     * Метод сохраняет список в файл в том же двоичном формате, что и
+     * {@link IntArrayList#writeTo(Path)}
+     *
+     * @param path путь к файлу, существующий файл перезаписывается
+     * @throws IOException при ошибке записи
+     */
+    public void writeTo(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BinaryListFormat.writeHeader(channel, BinaryListFormat.TYPE_INT, size);
+            for (int s = 0; s < segmentCount; s++) {
+                BinaryListFormat.writeInts(channel, segments[s].duplicate().clear().limit(segmentSize(s)));
+            }
+        }
+    }
+
+    /**
+     * Метод возвращает сегмент, доступный для записи: сегмент, отображённый
+     * на файл только для чтения, заменяется своей копией в памяти
+     */
+    private IntBuffer writableSegment(int segment) {
+        IntBuffer result = segments[segment];
+        if (result.isReadOnly()) {
+            result = newSegment().put(0, result, 0, result.capacity());
+            segments[segment] = result;
+        }
+        return result;
+    }
+
+    private IntBuffer newSegment() {
+        return ByteBuffer.allocateDirect((segmentMask + 1) * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    private void addSegment() {
+        if (segmentCount == segments.length) {
+            segments = Arrays.copyOf(segments, segmentCount * 2);
+        }
+        segments[segmentCount++] = newSegment();
+    }
+
+    /**
+     * Метод получения размера списка
+     *
+     * @return Возвращает количество элементов в списке
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Метод определения пуст ли список
+     *
+     * @return Возвращает true если список пуст
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Метод добавления значения в конец списка
+     *
+     * @param value добавляемое значение
+     * @return возвращает true (значение добавляется всегда, пока есть свободная память)
+     */
+    public boolean add(int value) {
+        modCount++;
+        if (size == (long) segmentCount << segmentShift) {
+            addSegment();
+        }
+        segments[(int) (size >>> segmentShift)].put((int) size & segmentMask, value);
+        size++;
+        return true;
+    }
+
+    /**
+     * Метод добавляет все значения массива в конец списка
+     *
+     * @param values добавляемые значения
+     * @return возвращает true если в список добавлено хотя бы одно значение
+     */
+    public boolean addAll(int[] values) {
+        if (values.length == 0) {
+            return false;
+        }
+        modCount++;
+        int from = 0;
+        while (from < values.length) {
+            if (size == (long) segmentCount << segmentShift) {
+                addSegment();
+            }
+            int offset = (int) size & segmentMask;
+            int count = Math.min(values.length - from, segmentMask + 1 - offset);
+            segments[(int) (size >>> segmentShift)].put(offset, values, from, count);
+            from += count;
+            size += count;
+        }
+        return true;
+    }
+
+    /**
+     * Метод получения значения по индексу
+     *
+     * @param index индекс - номер элемента в списке, счет ведется с 0
+     * @return возвращает значение по указанной позиции, если индекс
+     * находится за пределами списка выбрасывает IndexOutOfBoundsException
+     */
+    public int get(long index) {
+        Objects.checkIndex(index, size);
+        return segments[(int) (index >>> segmentShift)].get((int) index & segmentMask);
+    }
+
+    /**
+     * Метод замены значения по индексу
+     *
+     * @param index номер элемента в списке, который надо заменить
+     * @param value новое значение
+     * @return возвращает прежнее значение
+     */
+    public int set(long index, int value) {
+        int result = get(index);
+        writableSegment((int) (index >>> segmentShift)).put((int) index & segmentMask, value);
+        return result;
+    }
+
+    /**
+     * Метод удаляет все элементы из списка и отпускает сегменты
+     */
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+        }
+        segments = new IntBuffer[4];
+        segmentCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Метод определения наличия значения в списке
+     *
+     * @param value значение, которое ищется в списке
+     * @return Возвращает true, если значение содержится в списке
+     */
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Метод для нахождения индекса первого вхождения значения
+     *
+     * @param value значение, которое ищем в списке
+     * @return возвращает индекс первого вхождения или -1, если значения нет в списке
+     */
+    public long indexOf(int value) {
+        for (int s = 0; s < segmentCount; s++) {
+            IntBuffer segment = segments[s];
+            int count = segmentSize(s);
+            for (int i = 0; i < count; i++) {
+                if (segment.get(i) == value) {
+                    return ((long) s << segmentShift) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод для нахождения индекса последнего вхождения значения
+     *
+     * @param value значение, которое ищем в списке
+     * @return возвращает индекс последнего вхождения или -1, если значения нет в списке
+     */
+    public long lastIndexOf(int value) {
+        for (int s = segmentCount - 1; s >= 0; s--) {
+            IntBuffer segment = segments[s];
+            for (int i = segmentSize(s) - 1; i >= 0; i--) {
+                if (segment.get(i) == value) {
+                    return ((long) s << segmentShift) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int segmentSize(int segment) {
+        return (int) Math.min(segmentMask + 1, size - ((long) segment << segmentShift));
+    }
+
+    /**
+     * Метод двоичного поиска в отсортированном списке
+     *
+     * @param value значение, которое ищем в списке
+     * @return возвращает индекс значения, если оно есть в списке, иначе
+     * (-(точка вставки) - 1), как {@link Arrays#binarySearch(int[], int)}
+     */
+    public long binarySearch(int value) {
+        long low = 0;
+        long high = size - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            int middleValue = get(middle);
+            if (middleValue < value) {
+                low = middle + 1;
+            } else if (middleValue > value) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Метод сортирует список по возрастанию. Каждый сегмент по очереди
+     * копируется в массив размером с сегмент, сортируется {@link QSortInt}
+     * и записывается обратно; затем отсортированные сегменты сливаются
+     * в новые сегменты вне кучи. В куче при этом нужны лишь буферы
+     * размером с сегмент, вне кучи на время слияния нужна вторая копия данных.
+     */
+    public void sort() {
+        modCount++;
+        if (segmentCount == 0) {
+            return;
+        }
+        int[] buffer = new int[segmentSize(0)];
+        for (int s = 0; s < segmentCount; s++) {
+            int count = segmentSize(s);
+            segments[s].get(0, buffer, 0, count);
+            QSortInt.quickSort(buffer, 0, count - 1);
+            writableSegment(s).put(0, buffer, 0, count);
+        }
+        if (segmentCount > 1) {
+            mergeSegments();
+        }
+    }
+
+    /**
+     * K-путевое слияние отсортированных сегментов через двоичную кучу курсоров
+     */
+    private void mergeSegments() {
+        int runs = segmentCount;
+        int[] positions = new int[runs];
+        int[] heap = new int[runs];
+        for (int r = 0; r < runs; r++) {
+            heap[r] = r;
+        }
+        for (int i = runs / 2 - 1; i >= 0; i--) {
+            siftDown(heap, runs, i, positions);
+        }
+
+        IntBuffer[] merged = new IntBuffer[segments.length];
+        int heapSize = runs;
+        for (long written = 0; written < size; written++) {
+            int run = heap[0];
+            int value = segments[run].get(positions[run]++);
+            int outSegment = (int) (written >>> segmentShift);
+            if (merged[outSegment] == null) {
+                merged[outSegment] = newSegment();
+            }
+            merged[outSegment].put((int) written & segmentMask, value);
+
+            if (positions[run] == segmentSize(run)) {
+                segments[run] = null;
+                heap[0] = heap[--heapSize];
+            }
+            if (heapSize > 0) {
+                siftDown(heap, heapSize, 0, positions);
+            }
+        }
+        segments = merged;
+    }
+
+    private void siftDown(int[] heap, int heapSize, int node, int[] positions) {
+        int run = heap[node];
+        int value = segments[run].get(positions[run]);
+        int child;
+        while ((child = 2 * node + 1) < heapSize) {
+            int childValue = segments[heap[child]].get(positions[heap[child]]);
+            if (child + 1 < heapSize) {
+                int rightValue = segments[heap[child + 1]].get(positions[heap[child + 1]]);
+                if (rightValue < childValue) {
+                    child++;
+                    childValue = rightValue;
+                }
+            }
+            if (value <= childValue) {
+                break;
+            }
+            heap[node] = heap[child];
+            node = child;
+        }
+        heap[node] = run;
+    }
+
+    /**
+     * Метод возвращает итератор по значениям списка без упаковки
+     *
+     * @return возвращает итератор по списку
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new InnerIterator();
+    }
+
+    private class InnerIterator implements PrimitiveIterator.OfInt {
+        private long pointer = 0;
+        private final int expModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return pointer < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (expModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long index = pointer++;
+            return segments[(int) (index >>> segmentShift)].get((int) index & segmentMask);
+        }
+    }
+}
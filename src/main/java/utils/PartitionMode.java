@@ -0,0 +1,21 @@
+package utils;
+
+/**
+ * Схема разбиения, которую использует быстрая сортировка
+ */
+public enum PartitionMode {
+    /**
+     * Разбиение Хоара на две части с опорным элементом - медианой трёх
+     * (ninther на длинных диапазонах); равные опорному элементы могут попасть
+     * в обе части. После 2*log2(n) неудачных разбиений диапазон досортировывается
+     * пирамидальной сортировкой. Быстрее на данных с различающимися ключами.
+     */
+    TWO_WAY,
+    /**
+     * Разбиение на три части (задача о голландском флаге): меньшие, равные
+     * и большие опорного. Равные опорному элементы сразу встают на место
+     * и в рекурсию не попадают, поэтому данные с небольшим числом различных
+     * ключей сортируются за время, близкое к линейному.
+     */
+    THREE_WAY
+}
@@ -0,0 +1,365 @@
+package utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class QSortFloat {
+
+    /**
+     * Размер диапазона, начиная с которого части массива сортируются параллельно.
+     * Более короткие диапазоны дешевле досортировать в текущем потоке.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Размер диапазона, который досортировывается вставками
+     */
+    static final int INSERTION_SORT_THRESHOLD = 24;
+
+    /**
+     * Размер диапазона, начиная с которого опорный элемент выбирается
+     * как медиана трёх медиан (ninther), а не как медиана трёх элементов
+     */
+    static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Размер диапазона, начиная с которого quickSort сортирует поразрядно
+     */
+    public static final int RADIX_SORT_THRESHOLD = 1 << 16;
+
+    /**
+     * Метод сортирует диапазон массива (интроспективная сортировка).
+     * Диапазоны длиной от {@link #RADIX_SORT_THRESHOLD} сортируются поразрядно.
+     * Глубина рекурсии не превышает O(log n): рекурсивно обрабатывается
+     * только меньшая часть, а после 2*log2(n) неудачных разбиений
+     * диапазон досортировывается пирамидальной сортировкой.
+     * Порядок совпадает с Float.compare: NaN переносятся в конец диапазона
+     * до сортировки, а -0.0f ставятся перед 0.0f после неё.
+     *
+     * @param arr   сортируемый массив
+     * @param begin индекс первого элемента диапазона
+     * @param end   индекс последнего элемента диапазона (включительно)
+     */
+    public static void quickSort(float arr[], int begin, int end) {
+        if (end - begin + 1 >= RADIX_SORT_THRESHOLD) {
+            radixSort(arr, begin, end, new float[end - begin + 1]);
+        } else if (begin < end) {
+            int last = moveNaNsToEnd(arr, begin, end);
+            if (begin < last) {
+                introSort(arr, begin, last, depthLimit(last - begin + 1));
+                orderZeros(arr, begin, last);
+            }
+        }
+    }
+
+    /**
+     * Метод переносит NaN в конец диапазона
+     *
+     * @return возвращает индекс последнего элемента, не равного NaN
+     */
+    private static int moveNaNsToEnd(float[] arr, int begin, int end) {
+        int last = end;
+        for (int i = end; i >= begin; i--) {
+            if (arr[i] != arr[i]) {
+                swap(arr, i, last--);
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Метод ставит -0.0f перед 0.0f в отсортированном диапазоне без NaN.
+     * Сравнение < не различает нули, поэтому после сортировки они перемешаны.
+     */
+    private static void orderZeros(float[] arr, int begin, int end) {
+        int low = begin;
+        int high = end + 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (arr[middle] < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        int negativeZeros = 0;
+        int zeroEnd = low;
+        while (zeroEnd <= end && arr[zeroEnd] == 0) {
+            if (Float.floatToRawIntBits(arr[zeroEnd]) < 0) {
+                negativeZeros++;
+            }
+            zeroEnd++;
+        }
+        for (int i = low; i < zeroEnd; i++) {
+            arr[i] = i < low + negativeZeros ? -0.0f : 0.0f;
+        }
+    }
+
+    /**
+     * Метод сортирует массив поразрядно (LSD, по одному байту за проход)
+     *
+     * @param arr сортируемый массив
+     */
+    public static void radixSort(float[] arr) {
+        radixSort(arr, 0, arr.length - 1, new float[arr.length]);
+    }
+
+    /**
+     * Метод сортирует диапазон массива поразрядно (LSD, по одному байту за проход).
+     * Гистограммы всех байтов ключа строятся за один проход, байты, одинаковые
+     * у всех элементов, пропускаются. Порядок совпадает с Float.compare: -0.0f перед 0.0f, NaN в конце.
+     *
+     * @param arr     сортируемый массив
+     * @param begin   индекс первого элемента диапазона
+     * @param end     индекс последнего элемента диапазона (включительно)
+     * @param scratch буфер длиной не меньше диапазона; может переиспользоваться
+     *                между вызовами, его содержимое после сортировки не определено
+     * @throws IllegalArgumentException если буфер короче диапазона
+     */
+    public static void radixSort(float[] arr, int begin, int end, float[] scratch) {
+        int length = end - begin + 1;
+        if (length < 2) {
+            return;
+        }
+        if (scratch.length < length) {
+            throw new IllegalArgumentException("Scratch buffer is shorter than the range: "
+                    + scratch.length + " < " + length);
+        }
+
+        int[][] counts = new int[4][256];
+        for (int i = begin; i <= end; i++) {
+            int key = radixKey(arr[i]);
+            for (int pass = 0; pass < 4; pass++) {
+                counts[pass][(key >>> (pass * 8)) & 0xFF]++;
+            }
+        }
+
+        float[] src = arr;
+        int srcOffset = begin;
+        float[] dst = scratch;
+        int dstOffset = 0;
+        for (int pass = 0; pass < 4; pass++) {
+            int shift = pass * 8;
+            int[] count = counts[pass];
+            int key = radixKey(src[srcOffset]);
+            if (count[(key >>> shift) & 0xFF] == length) {
+                continue;
+            }
+
+            int offset = dstOffset;
+            for (int b = 0; b < 256; b++) {
+                int c = count[b];
+                count[b] = offset;
+                offset += c;
+            }
+            for (int i = srcOffset; i < srcOffset + length; i++) {
+                float value = src[i];
+                key = radixKey(value);
+                dst[count[(key >>> shift) & 0xFF]++] = value;
+            }
+
+            float[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+        if (src != arr) {
+            System.arraycopy(src, srcOffset, arr, begin, length);
+        }
+    }
+
+    /**
+     * Ключ поразрядной сортировки: беззнаковый порядок ключей совпадает с порядком значений
+     */
+    private static int radixKey(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+    }
+
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static void introSort(float[] arr, int begin, int end, int depth) {
+        while (end - begin >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, begin, end);
+                return;
+            }
+            int partitionIndex = partition(arr, begin, end);
+
+            if (partitionIndex - begin < end - partitionIndex) {
+                introSort(arr, begin, partitionIndex - 1, depth);
+                begin = partitionIndex + 1;
+            } else {
+                introSort(arr, partitionIndex + 1, end, depth);
+                end = partitionIndex - 1;
+            }
+        }
+        insertionSort(arr, begin, end);
+    }
+
+    private static void insertionSort(float[] arr, int begin, int end) {
+        for (int i = begin + 1; i <= end; i++) {
+            float value = arr[i];
+            int j = i - 1;
+            while (j >= begin && arr[j] > value) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = value;
+        }
+    }
+
+    private static void heapSort(float[] arr, int begin, int end) {
+        int length = end - begin + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(arr, begin, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swap(arr, begin, begin + last);
+            siftDown(arr, begin, 0, last);
+        }
+    }
+
+    private static void siftDown(float[] arr, int offset, int node, int length) {
+        float value = arr[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < length) {
+            if (child + 1 < length && arr[offset + child + 1] > arr[offset + child]) {
+                child++;
+            }
+            if (arr[offset + child] <= value) {
+                break;
+            }
+            arr[offset + node] = arr[offset + child];
+            node = child;
+        }
+        arr[offset + node] = value;
+    }
+
+    /**
+     * Метод сортирует диапазон массива, распределяя части между потоками
+     * общего пула ForkJoinPool.commonPool()
+     *
+     * @param arr   сортируемый массив
+     * @param begin индекс первого элемента диапазона
+     * @param end   индекс последнего элемента диапазона (включительно)
+     */
+    public static void parallelQuickSort(float[] arr, int begin, int end) {
+        parallelQuickSort(arr, begin, end, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Метод сортирует диапазон массива, распределяя части между потоками
+     * переданного пула
+     *
+     * @param arr   сортируемый массив
+     * @param begin индекс первого элемента диапазона
+     * @param end   индекс последнего элемента диапазона (включительно)
+     * @param pool  пул, в котором выполняется сортировка
+     */
+    public static void parallelQuickSort(float[] arr, int begin, int end, ForkJoinPool pool) {
+        if (end - begin < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            quickSort(arr, begin, end);
+        } else {
+            int last = moveNaNsToEnd(arr, begin, end);
+            if (begin < last) {
+                pool.invoke(new ParallelQuickSortTask(arr, begin, last, depthLimit(last - begin + 1)));
+                orderZeros(arr, begin, last);
+            }
+        }
+    }
+
+    private static class ParallelQuickSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final float[] arr;
+        private final int begin;
+        private final int end;
+        private final int depth;
+
+        ParallelQuickSortTask(float[] arr, int begin, int end, int depth) {
+            this.arr = arr;
+            this.begin = begin;
+            this.end = end;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - begin < PARALLEL_THRESHOLD) {
+                introSort(arr, begin, end, depth);
+            } else if (depth == 0) {
+                heapSort(arr, begin, end);
+            } else {
+                int partitionIndex = partition(arr, begin, end);
+
+                invokeAll(new ParallelQuickSortTask(arr, begin, partitionIndex - 1, depth - 1),
+                        new ParallelQuickSortTask(arr, partitionIndex + 1, end, depth - 1));
+            }
+        }
+    }
+
+    /**
+     * Разбиение Хоара: опорный элемент выбирается медианой и ставится в начало,
+     * указатели останавливаются на равных ему элементах, поэтому массив
+     * из одинаковых значений делится пополам.
+     *
+     * @return возвращает итоговую позицию опорного элемента
+     */
+    private static int partition(float arr[], int begin, int end) {
+        swap(arr, begin, pivotIndex(arr, begin, end));
+        float pivot = arr[begin];
+
+        int i = begin;
+        int j = end + 1;
+        while (true) {
+            while (arr[++i] < pivot) {
+                if (i == end) {
+                    break;
+                }
+            }
+            while (pivot < arr[--j]) {
+                if (j == begin) {
+                    break;
+                }
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(arr, i, j);
+        }
+        swap(arr, begin, j);
+        return j;
+    }
+
+    private static int pivotIndex(float[] arr, int begin, int end) {
+        int length = end - begin + 1;
+        int middle = begin + (length >>> 1);
+        if (length < NINTHER_THRESHOLD) {
+            return medianOfThree(arr, begin, middle, end);
+        }
+        int step = length >>> 3;
+        return medianOfThree(arr,
+                medianOfThree(arr, begin, begin + step, begin + 2 * step),
+                medianOfThree(arr, middle - step, middle, middle + step),
+                medianOfThree(arr, end - 2 * step, end - step, end));
+    }
+
+    private static int medianOfThree(float[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            return arr[b] < arr[c] ? b : (arr[a] < arr[c] ? c : a);
+        }
+        return arr[b] > arr[c] ? b : (arr[a] > arr[c] ? c : a);
+    }
+
+    private static void swap(float[] arr,int i, int j) {
+        float swapTemp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = swapTemp;
+    }
+}
@@ -1,33 +1,341 @@
 package utils;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class QSortInt {
 
+    /**
+     * Размер диапазона, начиная с которого части массива сортируются параллельно.
+     * Более короткие диапазоны дешевле досортировать в текущем потоке.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Размер диапазона, который досортировывается вставками
+     */
+    static final int INSERTION_SORT_THRESHOLD = 24;
+
+    /**
+     * Размер диапазона, начиная с которого опорный элемент выбирается
+     * как медиана трёх медиан (ninther), а не как медиана трёх элементов
+     */
+    static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Размер диапазона, начиная с которого quickSort сортирует поразрядно
+     */
+    public static final int RADIX_SORT_THRESHOLD = 1 << 16;
+
+    /**
+     * Метод сортирует диапазон массива (интроспективная сортировка).
+     * Диапазоны длиной от {@link #RADIX_SORT_THRESHOLD} сортируются поразрядно.
+     * Глубина рекурсии не превышает O(log n): рекурсивно обрабатывается
+     * только меньшая часть, а после 2*log2(n) неудачных разбиений
+     * диапазон досортировывается пирамидальной сортировкой.
+     *
+     * @param arr   сортируемый массив
+     * @param begin индекс первого элемента диапазона
+     * @param end   индекс последнего элемента диапазона (включительно)
+     */
     public static void quickSort(int arr[], int begin, int end) {
-        if (begin < end) {
+        quickSort(arr, begin, end, null);
+    }
+
+    /**
+     * Метод сортирует диапазон массива так же, как {@link #quickSort(int[], int, int)},
+     * но поразрядная сортировка использует переданный буфер, а не выделяет новый:
+     * при сортировке многих диапазонов подряд буфер переиспользуется
+     *
+     * @param scratch буфер длиной не меньше диапазона или null, тогда буфер
+     *                выделяется при необходимости
+     */
+    static void quickSort(int[] arr, int begin, int end, int[] scratch) {
+        int length = end - begin + 1;
+        if (length >= RADIX_SORT_THRESHOLD) {
+            radixSort(arr, begin, end, scratch != null ? scratch : new int[length]);
+        } else if (begin < end) {
+            introSort(arr, begin, end, depthLimit(length));
+        }
+    }
+
+    /**
+     * Метод сортирует массив поразрядно (LSD, по одному байту за проход)
+     *
+     * @param arr сортируемый массив
+     */
+    public static void radixSort(int[] arr) {
+        radixSort(arr, 0, arr.length - 1, new int[arr.length]);
+    }
+
+    /**
+     * Метод сортирует диапазон массива поразрядно (LSD, по одному байту за проход).
+     * Гистограммы всех четырёх байтов строятся за один проход, байты, одинаковые
+     * у всех элементов, пропускаются. Для старшего байта инвертируется знаковый
+     * бит, поэтому отрицательные числа оказываются перед положительными.
+     *
+     * @param arr     сортируемый массив
+     * @param begin   индекс первого элемента диапазона
+     * @param end     индекс последнего элемента диапазона (включительно)
+     * @param scratch буфер длиной не меньше диапазона; может переиспользоваться
+     *                между вызовами, его содержимое после сортировки не определено
+     * @throws IllegalArgumentException если буфер короче диапазона
+     */
+    public static void radixSort(int[] arr, int begin, int end, int[] scratch) {
+        int length = end - begin + 1;
+        if (length < 2) {
+            return;
+        }
+        if (scratch.length < length) {
+            throw new IllegalArgumentException("Scratch buffer is shorter than the range: "
+                    + scratch.length + " < " + length);
+        }
+
+        int[][] counts = new int[4][256];
+        for (int i = begin; i <= end; i++) {
+            int value = arr[i];
+            counts[0][value & 0xFF]++;
+            counts[1][(value >>> 8) & 0xFF]++;
+            counts[2][(value >>> 16) & 0xFF]++;
+            counts[3][(value >>> 24) ^ 0x80]++;
+        }
+
+        int[] src = arr;
+        int srcOffset = begin;
+        int[] dst = scratch;
+        int dstOffset = 0;
+        for (int pass = 0; pass < 4; pass++) {
+            int shift = pass * 8;
+            int flip = pass == 3 ? 0x80 : 0;
+            int[] count = counts[pass];
+            if (count[((src[srcOffset] >>> shift) & 0xFF) ^ flip] == length) {
+                continue;
+            }
+
+            int offset = dstOffset;
+            for (int b = 0; b < 256; b++) {
+                int c = count[b];
+                count[b] = offset;
+                offset += c;
+            }
+            for (int i = srcOffset; i < srcOffset + length; i++) {
+                int value = src[i];
+                dst[count[((value >>> shift) & 0xFF) ^ flip]++] = value;
+            }
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+        if (src != arr) {
+            System.arraycopy(src, srcOffset, arr, begin, length);
+        }
+    }
+
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static void introSort(int[] arr, int begin, int end, int depth) {
+        while (end - begin >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, begin, end);
+                return;
+            }
             int partitionIndex = partition(arr, begin, end);
 
-            quickSort(arr, begin, partitionIndex - 1);
-            quickSort(arr, partitionIndex + 1, end);
+            if (partitionIndex - begin < end - partitionIndex) {
+                introSort(arr, begin, partitionIndex - 1, depth);
+                begin = partitionIndex + 1;
+            } else {
+                introSort(arr, partitionIndex + 1, end, depth);
+                end = partitionIndex - 1;
+            }
+        }
+        insertionSort(arr, begin, end);
+    }
+
+    private static void insertionSort(int[] arr, int begin, int end) {
+        for (int i = begin + 1; i <= end; i++) {
+            int value = arr[i];
+            int j = i - 1;
+            while (j >= begin && arr[j] > value) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = value;
+        }
+    }
+
+    private static void heapSort(int[] arr, int begin, int end) {
+        int length = end - begin + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(arr, begin, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swap(arr, begin, begin + last);
+            siftDown(arr, begin, 0, last);
+        }
+    }
+
+    private static void siftDown(int[] arr, int offset, int node, int length) {
+        int value = arr[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < length) {
+            if (child + 1 < length && arr[offset + child + 1] > arr[offset + child]) {
+                child++;
+            }
+            if (arr[offset + child] <= value) {
+                break;
+            }
+            arr[offset + node] = arr[offset + child];
+            node = child;
+        }
+        arr[offset + node] = value;
+    }
+
+    /**
+     * Метод сортирует файл значений int, который может не помещаться в память
+     * (внешняя сортировка слиянием). Файл читается кусками через отображение
+     * в память, каждый кусок сортируется {@link #quickSort(int[], int, int)}
+     * и сбрасывается во временный файл рядом с output, затем отсортированные
+     * серии сливаются k-путевым слиянием с буферизованным вводом-выводом,
+     * не больше {@link ExternalIntSort#MAX_MERGE_WAYS} серий за проход.
+     * Если файл помещается в бюджет целиком, он сортируется за один проход.
+     * <p>
+     * Исходный файл и результат - в формате {@link IntArrayList#writeTo(Path)}:
+     * результат можно прочитать {@link IntArrayList#readFrom(Path)}
+     * или открыть {@link OffHeapIntList#map(Path)}.
+     *
+     * @param input        исходный файл
+     * @param output       файл для результата, существующий файл перезаписывается;
+     *                     должен отличаться от input
+     * @param memoryBudget сколько байтов кучи можно занять под сортировку куска
+     *                     (массив куска и буфер поразрядной сортировки)
+     * @throws IOException              при ошибке ввода-вывода или если input
+     *                                  не является файлом списка int
+     * @throws IllegalArgumentException если бюджет не положителен или output совпадает с input
+     */
+    public static void externalSort(Path input, Path output, long memoryBudget) throws IOException {
+        ExternalIntSort.sort(input, output, memoryBudget);
+    }
+
+    /**
+     * Метод сортирует диапазон массива, распределяя части между потоками
+     * общего пула ForkJoinPool.commonPool()
+     *
+     * @param arr   сортируемый массив
+     * @param begin индекс первого элемента диапазона
+     * @param end   индекс последнего элемента диапазона (включительно)
+     */
+    public static void parallelQuickSort(int[] arr, int begin, int end) {
+        parallelQuickSort(arr, begin, end, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Метод сортирует диапазон массива, распределяя части между потоками
+     * переданного пула
+     *
+     * @param arr   сортируемый массив
+     * @param begin индекс первого элемента диапазона
+     * @param end   индекс последнего элемента диапазона (включительно)
+     * @param pool  пул, в котором выполняется сортировка
+     */
+    public static void parallelQuickSort(int[] arr, int begin, int end, ForkJoinPool pool) {
+        if (end - begin < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            quickSort(arr, begin, end);
+        } else {
+            pool.invoke(new ParallelQuickSortTask(arr, begin, end, depthLimit(end - begin + 1)));
+        }
+    }
+
+    private static class ParallelQuickSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int begin;
+        private final int end;
+        private final int depth;
+
+        ParallelQuickSortTask(int[] arr, int begin, int end, int depth) {
+            this.arr = arr;
+            this.begin = begin;
+            this.end = end;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - begin < PARALLEL_THRESHOLD) {
+                introSort(arr, begin, end, depth);
+            } else if (depth == 0) {
+                heapSort(arr, begin, end);
+            } else {
+                int partitionIndex = partition(arr, begin, end);
+
+                invokeAll(new ParallelQuickSortTask(arr, begin, partitionIndex - 1, depth - 1),
+                        new ParallelQuickSortTask(arr, partitionIndex + 1, end, depth - 1));
+            }
         }
     }
 
+    /**
+     * Разбиение Хоара: опорный элемент выбирается медианой и ставится в начало,
+     * указатели останавливаются на равных ему элементах, поэтому массив
+     * из одинаковых значений делится пополам.
+     *
+     * @return возвращает итоговую позицию опорного элемента
+     */
     private static int partition(int arr[], int begin, int end) {
-        int pivotPos= end;
-        int pivot = arr[pivotPos];
-
-        int i = (begin - 1);
-        for (int j = begin; j < end; j++) {
-            if (arr[j] <= pivot) {
-                i++;
-                if (i != j) {
-                    swap(arr,i,j);
+        swap(arr, begin, pivotIndex(arr, begin, end));
+        int pivot = arr[begin];
+
+        int i = begin;
+        int j = end + 1;
+        while (true) {
+            while (arr[++i] < pivot) {
+                if (i == end) {
+                    break;
                 }
             }
+            while (pivot < arr[--j]) {
+                if (j == begin) {
+                    break;
+                }
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(arr, i, j);
+        }
+        swap(arr, begin, j);
+        return j;
+    }
+
+    private static int pivotIndex(int[] arr, int begin, int end) {
+        int length = end - begin + 1;
+        int middle = begin + (length >>> 1);
+        if (length < NINTHER_THRESHOLD) {
+            return medianOfThree(arr, begin, middle, end);
+        }
+        int step = length >>> 3;
+        return medianOfThree(arr,
+                medianOfThree(arr, begin, begin + step, begin + 2 * step),
+                medianOfThree(arr, middle - step, middle, middle + step),
+                medianOfThree(arr, end - 2 * step, end - step, end));
+    }
+
+    private static int medianOfThree(int[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            return arr[b] < arr[c] ? b : (arr[a] < arr[c] ? c : a);
         }
-        swap(arr,i+1, pivotPos);
-        return i + 1;
+        return arr[b] > arr[c] ? b : (arr[a] > arr[c] ? c : a);
     }
 
     private static void swap(int[] arr,int i, int j) {
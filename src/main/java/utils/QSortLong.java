@@ -0,0 +1,370 @@
+package utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class QSortLong {
+
+    /**
+     * Размер диапазона, начиная с которого части массива сортируются параллельно.
+     * Более короткие диапазоны дешевле досортировать в текущем потоке.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Размер диапазона, который досортировывается вставками
+     */
+    static final int INSERTION_SORT_THRESHOLD = 24;
+
+    /**
+     * Размер диапазона, начиная с которого опорный элемент выбирается
+     * как медиана трёх медиан (ninther), а не как медиана трёх элементов
+     */
+    static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Размер диапазона, начиная с которого quickSort сортирует поразрядно
+     */
+    public static final int RADIX_SORT_THRESHOLD = 1 << 16;
+
+    /**
+     * Метод сортирует диапазон массива (интроспективная сортировка).
+     * Диапазоны длиной от {@link #RADIX_SORT_THRESHOLD} сортируются поразрядно.
+     * Глубина рекурсии не превышает O(log n): рекурсивно обрабатывается
+     * только меньшая часть, а после 2*log2(n) неудачных разбиений
+     * диапазон досортировывается пирамидальной сортировкой.
+     *
+     * @param arr   сортируемый массив
+     * @param begin индекс первого элемента диапазона
+     * @param end   индекс последнего элемента диапазона (включительно)
+     */
+    public static void quickSort(long arr[], int begin, int end) {
+        if (end - begin + 1 >= RADIX_SORT_THRESHOLD) {
+            radixSort(arr, begin, end, new long[end - begin + 1]);
+        } else if (begin < end) {
+            introSort(arr, begin, end, depthLimit(end - begin + 1));
+        }
+    }
+
+    /**
+     * Метод сортирует массив поразрядно (LSD, по одному байту за проход)
+     *
+     * @param arr сортируемый массив
+     */
+    public static void radixSort(long[] arr) {
+        radixSort(arr, 0, arr.length - 1, new long[arr.length]);
+    }
+
+    /**
+     * Метод сортирует диапазон массива поразрядно (LSD, по одному байту за проход).
+     * Гистограммы всех байтов ключа строятся за один проход, байты, одинаковые
+     * у всех элементов, пропускаются. Знаковый бит инвертируется, поэтому
+     * отрицательные числа оказываются перед положительными.
+     *
+     * @param arr     сортируемый массив
+     * @param begin   индекс первого элемента диапазона
+     * @param end     индекс последнего элемента диапазона (включительно)
+     * @param scratch буфер длиной не меньше диапазона; может переиспользоваться
+     *                между вызовами, его содержимое после сортировки не определено
+     * @throws IllegalArgumentException если буфер короче диапазона
+     */
+    public static void radixSort(long[] arr, int begin, int end, long[] scratch) {
+        int length = end - begin + 1;
+        if (length < 2) {
+            return;
+        }
+        if (scratch.length < length) {
+            throw new IllegalArgumentException("Scratch buffer is shorter than the range: "
+                    + scratch.length + " < " + length);
+        }
+
+        int[][] counts = new int[8][256];
+        for (int i = begin; i <= end; i++) {
+            long key = radixKey(arr[i]);
+            for (int pass = 0; pass < 8; pass++) {
+                counts[pass][(int) (key >>> (pass * 8)) & 0xFF]++;
+            }
+        }
+
+        long[] src = arr;
+        int srcOffset = begin;
+        long[] dst = scratch;
+        int dstOffset = 0;
+        for (int pass = 0; pass < 8; pass++) {
+            int shift = pass * 8;
+            int[] count = counts[pass];
+            long key = radixKey(src[srcOffset]);
+            if (count[(int) (key >>> shift) & 0xFF] == length) {
+                continue;
+            }
+
+            int offset = dstOffset;
+            for (int b = 0; b < 256; b++) {
+                int c = count[b];
+                count[b] = offset;
+                offset += c;
+            }
+            for (int i = srcOffset; i < srcOffset + length; i++) {
+                long value = src[i];
+                key = radixKey(value);
+                dst[count[(int) (key >>> shift) & 0xFF]++] = value;
+            }
+
+            long[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+        if (src != arr) {
+            System.arraycopy(src, srcOffset, arr, begin, length);
+        }
+    }
+
+    /**
+     * Ключ поразрядной сортировки: беззнаковый порядок ключей совпадает с порядком значений
+     */
+    private static long radixKey(long value) {
+        return value ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Метод устойчиво сортирует пары (ключ, значение) по ключу поразрядно.
+     * Значения переставляются вместе со своими ключами, при равных ключах
+     * сохраняется исходный порядок пар.
+     *
+     * @param keys   ключи
+     * @param values значения, связанные с ключами (той же длины)
+     */
+    static void radixSortPairs(long[] keys, int[] values) {
+        int length = keys.length;
+        if (length < 2) {
+            return;
+        }
+
+        int[][] counts = new int[8][256];
+        for (long value : keys) {
+            long key = radixKey(value);
+            for (int pass = 0; pass < 8; pass++) {
+                counts[pass][(int) (key >>> (pass * 8)) & 0xFF]++;
+            }
+        }
+
+        long[] srcKeys = keys;
+        int[] srcValues = values;
+        long[] dstKeys = new long[length];
+        int[] dstValues = new int[length];
+        for (int pass = 0; pass < 8; pass++) {
+            int shift = pass * 8;
+            int[] count = counts[pass];
+            if (count[(int) (radixKey(srcKeys[0]) >>> shift) & 0xFF] == length) {
+                continue;
+            }
+
+            int offset = 0;
+            for (int b = 0; b < 256; b++) {
+                int c = count[b];
+                count[b] = offset;
+                offset += c;
+            }
+            for (int i = 0; i < length; i++) {
+                long value = srcKeys[i];
+                int pos = count[(int) (radixKey(value) >>> shift) & 0xFF]++;
+                dstKeys[pos] = value;
+                dstValues[pos] = srcValues[i];
+            }
+
+            long[] tmpKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tmpKeys;
+            int[] tmpValues = srcValues;
+            srcValues = dstValues;
+            dstValues = tmpValues;
+        }
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, length);
+            System.arraycopy(srcValues, 0, values, 0, length);
+        }
+    }
+
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static void introSort(long[] arr, int begin, int end, int depth) {
+        while (end - begin >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, begin, end);
+                return;
+            }
+            int partitionIndex = partition(arr, begin, end);
+
+            if (partitionIndex - begin < end - partitionIndex) {
+                introSort(arr, begin, partitionIndex - 1, depth);
+                begin = partitionIndex + 1;
+            } else {
+                introSort(arr, partitionIndex + 1, end, depth);
+                end = partitionIndex - 1;
+            }
+        }
+        insertionSort(arr, begin, end);
+    }
+
+    private static void insertionSort(long[] arr, int begin, int end) {
+        for (int i = begin + 1; i <= end; i++) {
+            long value = arr[i];
+            int j = i - 1;
+            while (j >= begin && arr[j] > value) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = value;
+        }
+    }
+
+    private static void heapSort(long[] arr, int begin, int end) {
+        int length = end - begin + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(arr, begin, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swap(arr, begin, begin + last);
+            siftDown(arr, begin, 0, last);
+        }
+    }
+
+    private static void siftDown(long[] arr, int offset, int node, int length) {
+        long value = arr[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < length) {
+            if (child + 1 < length && arr[offset + child + 1] > arr[offset + child]) {
+                child++;
+            }
+            if (arr[offset + child] <= value) {
+                break;
+            }
+            arr[offset + node] = arr[offset + child];
+            node = child;
+        }
+        arr[offset + node] = value;
+    }
+
+    /**
+     * Метод сортирует диапазон массива, распределяя части между потоками
+     * общего пула ForkJoinPool.commonPool()
+     *
+     * @param arr   сортируемый массив
+     * @param begin индекс первого элемента диапазона
+     * @param end   индекс последнего элемента диапазона (включительно)
+     */
+    public static void parallelQuickSort(long[] arr, int begin, int end) {
+        parallelQuickSort(arr, begin, end, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Метод сортирует диапазон массива, распределяя части между потоками
+     * переданного пула
+     *
+     * @param arr   сортируемый массив
+     * @param begin индекс первого элемента диапазона
+     * @param end   индекс последнего элемента диапазона (включительно)
+     * @param pool  пул, в котором выполняется сортировка
+     */
+    public static void parallelQuickSort(long[] arr, int begin, int end, ForkJoinPool pool) {
+        if (end - begin < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            quickSort(arr, begin, end);
+        } else {
+            pool.invoke(new ParallelQuickSortTask(arr, begin, end, depthLimit(end - begin + 1)));
+        }
+    }
+
+    private static class ParallelQuickSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] arr;
+        private final int begin;
+        private final int end;
+        private final int depth;
+
+        ParallelQuickSortTask(long[] arr, int begin, int end, int depth) {
+            this.arr = arr;
+            this.begin = begin;
+            this.end = end;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - begin < PARALLEL_THRESHOLD) {
+                introSort(arr, begin, end, depth);
+            } else if (depth == 0) {
+                heapSort(arr, begin, end);
+            } else {
+                int partitionIndex = partition(arr, begin, end);
+
+                invokeAll(new ParallelQuickSortTask(arr, begin, partitionIndex - 1, depth - 1),
+                        new ParallelQuickSortTask(arr, partitionIndex + 1, end, depth - 1));
+            }
+        }
+    }
+
+    /**
+     * Разбиение Хоара: опорный элемент выбирается медианой и ставится в начало,
+     * указатели останавливаются на равных ему элементах, поэтому массив
+     * из одинаковых значений делится пополам.
+     *
+     * @return возвращает итоговую позицию опорного элемента
+     */
+    private static int partition(long arr[], int begin, int end) {
+        swap(arr, begin, pivotIndex(arr, begin, end));
+        long pivot = arr[begin];
+
+        int i = begin;
+        int j = end + 1;
+        while (true) {
+            while (arr[++i] < pivot) {
+                if (i == end) {
+                    break;
+                }
+            }
+            while (pivot < arr[--j]) {
+                if (j == begin) {
+                    break;
+                }
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(arr, i, j);
+        }
+        swap(arr, begin, j);
+        return j;
+    }
+
+    private static int pivotIndex(long[] arr, int begin, int end) {
+        int length = end - begin + 1;
+        int middle = begin + (length >>> 1);
+        if (length < NINTHER_THRESHOLD) {
+            return medianOfThree(arr, begin, middle, end);
+        }
+        int step = length >>> 3;
+        return medianOfThree(arr,
+                medianOfThree(arr, begin, begin + step, begin + 2 * step),
+                medianOfThree(arr, middle - step, middle, middle + step),
+                medianOfThree(arr, end - 2 * step, end - step, end));
+    }
+
+    private static int medianOfThree(long[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            return arr[b] < arr[c] ? b : (arr[a] < arr[c] ? c : a);
+        }
+        return arr[b] > arr[c] ? b : (arr[a] > arr[c] ? c : a);
+    }
+
+    private static void swap(long[] arr,int i, int j) {
+        long swapTemp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = swapTemp;
+    }
+}
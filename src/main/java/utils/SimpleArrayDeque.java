@@ -0,0 +1,743 @@
+package utils;
+
+import java.util.*;
+
+/**
+ * Список на кольцевом буфере: элементы хранятся начиная с позиции head
+ * и при необходимости переходят через конец массива в его начало.
+ * Добавление и удаление с обоих концов выполняются за амортизированное O(1),
+ * доступ по индексу - за O(1), вставка и удаление в середине сдвигают
+ * меньшую из двух частей списка.
+ * <p>
+ * Реализует и {@link List}, и {@link Deque}, поэтому подходит вместо
+ * ArrayDeque или LinkedList в очередях, которые разбираются с начала.
+ * В отличие от ArrayDeque, допускает null; методы poll и peek возвращают
+ * null и для пустой очереди, и для элемента null.
+ *
+ * @param <E> Тип данных, хранимых в коллекции
+ */
+public class SimpleArrayDeque<E> extends AbstractList<E> implements Deque<E>, RandomAccess {
+
+    public static final int DEFAULT_INITIAL_CAPACITY = 4;
+    /**
+     * Наибольшая ёмкость: ёмкость - степень двойки, а 2^31 уже не помещается в массив
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+    private int head;
+    private int size;
+    private Object[] data;
+
+    public SimpleArrayDeque() {
+        data = new Object[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    /**
+     * @param initSize начальная ёмкость, округляется вверх до степени двойки
+     */
+    public SimpleArrayDeque(int initSize) {
+        int capacity = Integer.highestOneBit(Math.min(Math.max(initSize, 1), MAX_CAPACITY) - 1) << 1;
+        data = new Object[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Ёмкость всегда степень двойки, поэтому позиция в массиве
+     * вычисляется маской, без деления
+     */
+    private int physical(int index) {
+        return (head + index) & (data.length - 1);
+    }
+
+    /**
+     * Метод переносит count элементов с логической позиции from на позицию to
+     * блоками System.arraycopy, разрезая их в местах перехода через конец массива.
+     * При сдвиге влево блоки копируются от начала, при сдвиге вправо - от конца,
+     * чтобы не затереть ещё не перенесённые элементы.
+     */
+    private void moveRange(int from, int to, int count) {
+        int length = data.length;
+        if (from > to) {
+            while (count > 0) {
+                int src = physical(from);
+                int dst = physical(to);
+                int n = Math.min(count, Math.min(length - src, length - dst));
+                System.arraycopy(data, src, data, dst, n);
+                from += n;
+                to += n;
+                count -= n;
+            }
+        } else {
+            while (count > 0) {
+                int srcEnd = physical(from + count - 1);
+                int dstEnd = physical(to + count - 1);
+                int n = Math.min(count, Math.min(srcEnd + 1, dstEnd + 1));
+                System.arraycopy(data, srcEnd - n + 1, data, dstEnd - n + 1, n);
+                count -= n;
+            }
+        }
+    }
+
+    private void grow() {
+        if (data.length == MAX_CAPACITY) {
+            throw new OutOfMemoryError("Deque is too large: " + size);
+        }
+        Object[] newData = new Object[data.length * 2];
+        int firstPart = Math.min(size, data.length - head);
+        System.arraycopy(data, head, newData, 0, firstPart);
+        System.arraycopy(data, 0, newData, firstPart, size - firstPart);
+        data = newData;
+        head = 0;
+    }
+
+    /**
+     * Метод получения размера списка
+     *
+     * @return Возвращает количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод получения элемента списка по индексу
+     *
+     * @param index индекс - номер элемента в списке, счет ведется с 0
+     * @return возвращает элемент по указанной позиции, если индекс
+     * находится за пределами списка выбрасывает IndexOutOfBoundsException
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) data[physical(index)];
+    }
+
+    /**
+     * Метод замены элемента по индексу в списке
+     *
+     * @param index   номер элемента в списке, который надо заменить
+     * @param element элемент, на который надо заменить элемент в списке
+     * @return возвращает элемент списка, который был заменён
+     */
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        int pos = physical(index);
+        E result = (E) data[pos];
+        data[pos] = element;
+        return result;
+    }
+
+    /**
+     * Метод добавления элемента в конец списка
+     *
+     * @param e добавляемый элемент
+     * @return возвращает true (элемент добавляется всегда, пока есть свободная память)
+     */
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Метод добавляет элемент в начало списка за амортизированное O(1)
+     *
+     * @param e добавляемый элемент
+     */
+    public void addFirst(E e) {
+        modCount++;
+        if (size == data.length) {
+            grow();
+        }
+        head = (head - 1) & (data.length - 1);
+        data[head] = e;
+        size++;
+    }
+
+    /**
+     * Метод добавляет элемент в конец списка за амортизированное O(1)
+     *
+     * @param e добавляемый элемент
+     */
+    public void addLast(E e) {
+        modCount++;
+        if (size == data.length) {
+            grow();
+        }
+        data[physical(size)] = e;
+        size++;
+    }
+
+    /**
+     * Метод удаляет и возвращает первый элемент списка
+     *
+     * @return возвращает удалённый элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return pollFirst();
+    }
+
+    /**
+     * Метод удаляет и возвращает последний элемент списка
+     *
+     * @return возвращает удалённый элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return pollLast();
+    }
+
+    /**
+     * Метод удаляет и возвращает первый элемент списка
+     *
+     * @return возвращает удалённый элемент или null, если список пуст
+     */
+    public E pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        modCount++;
+        E result = (E) data[head];
+        data[head] = null;
+        head = (head + 1) & (data.length - 1);
+        size--;
+        return result;
+    }
+
+    /**
+     * Метод удаляет и возвращает последний элемент списка
+     *
+     * @return возвращает удалённый элемент или null, если список пуст
+     */
+    public E pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        modCount++;
+        int pos = physical(size - 1);
+        E result = (E) data[pos];
+        data[pos] = null;
+        size--;
+        return result;
+    }
+
+    /**
+     * @return возвращает первый элемент списка
+     * @throws NoSuchElementException если список пуст
+     */
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) data[head];
+    }
+
+    /**
+     * @return возвращает последний элемент списка
+     * @throws NoSuchElementException если список пуст
+     */
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) data[physical(size - 1)];
+    }
+
+    /**
+     * @return возвращает первый элемент списка или null, если список пуст
+     */
+    public E peekFirst() {
+        return size == 0 ? null : (E) data[head];
+    }
+
+    /**
+     * @return возвращает последний элемент списка или null, если список пуст
+     */
+    public E peekLast() {
+        return size == 0 ? null : (E) data[physical(size - 1)];
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Метод добавляет элемент в конец очереди
+     *
+     * @param e добавляемый элемент
+     * @return возвращает true (элемент добавляется всегда, пока есть свободная память)
+     */
+    @Override
+    public boolean offer(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Метод удаляет и возвращает первый элемент очереди
+     *
+     * @return возвращает удалённый элемент или null, если очередь пуста
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Метод удаляет и возвращает первый элемент очереди
+     *
+     * @return возвращает удалённый элемент
+     * @throws NoSuchElementException если очередь пуста
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * @return возвращает первый элемент очереди или null, если очередь пуста
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * @return возвращает первый элемент очереди
+     * @throws NoSuchElementException если очередь пуста
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Метод добавляет элемент в начало, как в стек
+     *
+     * @param e добавляемый элемент
+     */
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    /**
+     * Метод удаляет и возвращает первый элемент, как из стека
+     *
+     * @return возвращает удалённый элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * @return возвращает итератор от последнего элемента к первому
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new DescendingIterator();
+    }
+
+    /**
+     * Метод возвращает представление списка в обратном порядке: изменения
+     * представления видны в списке и наоборот. Нужен потому, что и List,
+     * и Deque объявляют reversed() (начиная с Java 21).
+     *
+     * @return возвращает перевёрнутое представление
+     */
+    public ReversedView<E> reversed() {
+        return new ReversedView<>(this);
+    }
+
+    /**
+     * Метод вставляет элемент на указанную позицию в списке.
+     * Сдвигается меньшая из частей списка: до позиции - влево, после неё - вправо.
+     *
+     * @param index   индекс, куда вставляется элемент
+     * @param element элемент для вставки
+     *                Если индекс выходит за границы списка выбрасывается исключение
+     *                IndexOutOfBoundsException
+     */
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == 0) {
+            addFirst(element);
+            return;
+        }
+        modCount++;
+        if (size == data.length) {
+            grow();
+        }
+        if (index < size / 2) {
+            head = (head - 1) & (data.length - 1);
+            moveRange(1, 0, index);
+        } else {
+            moveRange(index, index + 1, size - index);
+        }
+        data[physical(index)] = element;
+        size++;
+    }
+
+    /**
+     * Метод удаления элемента из списка по индексу.
+     * Сдвигается меньшая из частей списка.
+     *
+     * @param index позиция элемента в списке, который надо удалить
+     * @return возвращает удалённый элемент, при неверном индексе
+     * выбрасывает IndexOutOfBoundsException
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        if (index == 0) {
+            return pollFirst();
+        }
+        modCount++;
+        E result = (E) data[physical(index)];
+        if (index < size / 2) {
+            moveRange(0, 1, index);
+            data[head] = null;
+            head = (head + 1) & (data.length - 1);
+        } else {
+            moveRange(index + 1, index, size - 1 - index);
+            data[physical(size - 1)] = null;
+        }
+        size--;
+        return result;
+    }
+
+    /**
+     * Метод удаляет все элементы из списка
+     */
+    @Override
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+        }
+        while (size > 0) {
+            data[physical(--size)] = null;
+        }
+        head = 0;
+    }
+
+    /**
+     * Метод для нахождения индекса первого вхождения элемента в список
+     *
+     * @param o элемент, который ищем в списке
+     * @return возвращает индекс первого найденного вхождения или -1
+     */
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, data[physical(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод для нахождения индекса последнего вхождения элемента в список
+     *
+     * @param o элемент, который ищем в списке
+     * @return возвращает индекс последнего найденного вхождения или -1
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, data[physical(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int firstPart = Math.min(size, data.length - head);
+        System.arraycopy(data, head, result, 0, firstPart);
+        System.arraycopy(data, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
+    private class DescendingIterator implements Iterator<E> {
+        private int cursor = size - 1;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor >= 0;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor < 0) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor--;
+            return (E) data[physical(lastReturned)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            SimpleArrayDeque.this.remove(lastReturned);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Перевёрнутое представление, см. {@link #reversed()}: хранит только ссылку
+     * на исходный список, индекс i соответствует size - 1 - i исходного списка
+     *
+     * @param <E> Тип данных, хранимых в коллекции
+     */
+    public static final class ReversedView<E> extends AbstractList<E> implements Deque<E>, RandomAccess {
+        private final SimpleArrayDeque<E> base;
+
+        private ReversedView(SimpleArrayDeque<E> base) {
+            this.base = base;
+        }
+
+        private int mirror(int index) {
+            return base.size() - 1 - index;
+        }
+
+        @Override
+        public int size() {
+            return base.size();
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, base.size());
+            return base.get(mirror(index));
+        }
+
+        @Override
+        public E set(int index, E element) {
+            Objects.checkIndex(index, base.size());
+            return base.set(mirror(index), element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            Objects.checkIndex(index, base.size() + 1);
+            modCount++;
+            base.add(base.size() - index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            Objects.checkIndex(index, base.size());
+            modCount++;
+            return base.remove(mirror(index));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            base.clear();
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            int index = base.lastIndexOf(o);
+            return index == -1 ? -1 : mirror(index);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            int index = base.indexOf(o);
+            return index == -1 ? -1 : mirror(index);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return base.contains(o);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return base.descendingIterator();
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            return base.iterator();
+        }
+
+        @Override
+        public void addFirst(E e) {
+            modCount++;
+            base.addLast(e);
+        }
+
+        @Override
+        public void addLast(E e) {
+            modCount++;
+            base.addFirst(e);
+        }
+
+        @Override
+        public boolean offerFirst(E e) {
+            addFirst(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLast(E e) {
+            addLast(e);
+            return true;
+        }
+
+        @Override
+        public E removeFirst() {
+            modCount++;
+            return base.removeLast();
+        }
+
+        @Override
+        public E removeLast() {
+            modCount++;
+            return base.removeFirst();
+        }
+
+        @Override
+        public E pollFirst() {
+            modCount++;
+            return base.pollLast();
+        }
+
+        @Override
+        public E pollLast() {
+            modCount++;
+            return base.pollFirst();
+        }
+
+        @Override
+        public E getFirst() {
+            return base.getLast();
+        }
+
+        @Override
+        public E getLast() {
+            return base.getFirst();
+        }
+
+        @Override
+        public E peekFirst() {
+            return base.peekLast();
+        }
+
+        @Override
+        public E peekLast() {
+            return base.peekFirst();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Object o) {
+            modCount++;
+            return base.removeLastOccurrence(o);
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Object o) {
+            modCount++;
+            return base.removeFirstOccurrence(o);
+        }
+
+        @Override
+        public boolean offer(E e) {
+            return offerLast(e);
+        }
+
+        @Override
+        public E remove() {
+            return removeFirst();
+        }
+
+        @Override
+        public E poll() {
+            return pollFirst();
+        }
+
+        @Override
+        public E element() {
+            return getFirst();
+        }
+
+        @Override
+        public E peek() {
+            return peekFirst();
+        }
+
+        @Override
+        public void push(E e) {
+            addFirst(e);
+        }
+
+        @Override
+        public E pop() {
+            return removeFirst();
+        }
+
+        public SimpleArrayDeque<E> reversed() {
+            return base;
+        }
+    }
+}
@@ -1,13 +1,49 @@
 package utils;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
-public class SimpleArrayList<E> implements List<E> {
+public class SimpleArrayList<E> implements List<E>, RandomAccess {
 
     public static final int DEFAULT_INITIAL_CAPACITY = 4;
+    /**
+     * Размер части списка, начиная с которого parallelSort сортирует её части в разных потоках
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    /**
+     * Размер коллекции-аргумента removeAll/retainAll, начиная с которого
+     * она копируется в HashSet для быстрой проверки принадлежности
+     */
+    static final int HASH_LOOKUP_THRESHOLD = 16;
     private int size;
     private int modCount;
     private Object[] data;
+    /**
+     * true, если массив data разделён хотя бы с одним снимком {@link #snapshot()}
+     */
+    private boolean shared;
+    /**
+     * Включён ли хеш-индекс для contains и indexOf, см. {@link #enableHashIndex()}
+     */
+    private boolean indexEnabled;
+    /**
+     * Хеш-индекс: элемент - позиция его первого вхождения. Действителен,
+     * пока indexModCount совпадает с modCount
+     */
+    private HashMap<Object, Integer> hashIndex;
+    private int indexModCount;
+    private GrowthPolicy growthPolicy = GrowthPolicy.DOUBLING;
 
     public SimpleArrayList() {
         data = new Object[DEFAULT_INITIAL_CAPACITY];
@@ -17,8 +53,160 @@ public class SimpleArrayList<E> implements List<E> {
         data = new Object[initSize];
     }
 
-    private void grow() {
-        data = Arrays.copyOf(data, data.length * 2);
+    private SimpleArrayList(Object[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    /**
+     * Метод создаёт список поверх массива без копирования: массив становится
+     * внутренним массивом списка, и после вызова его нельзя использовать
+     * в обход списка. Тип элементов массива должен допускать все элементы,
+     * которые будут добавлены в список, иначе добавление выбросит ArrayStoreException.
+     *
+     * @param array массив, все элементы которого становятся элементами списка
+     * @param <E>   Тип данных, хранимых в коллекции
+     * @return возвращает список размера array.length
+     */
+    public static <E> SimpleArrayList<E> wrap(E[] array) {
+        return new SimpleArrayList<>(array, array.length);
+    }
+
+    /**
+     * Метод создаёт список поверх первых size элементов массива без копирования.
+     * Остальные ячейки массива считаются свободной ёмкостью и будут перезаписаны
+     * при добавлении. Как и у {@link #wrap(Object[])}, массив переходит
+     * во владение списка.
+     *
+     * @param array массив, который становится внутренним массивом списка
+     * @param size  количество элементов в начале массива, которые входят в список
+     * @param <E>   Тип данных, хранимых в коллекции
+     * @return возвращает список размера size
+     * @throws IndexOutOfBoundsException если size меньше 0 или больше длины массива
+     */
+    public static <E> SimpleArrayList<E> adopt(E[] array, int size) {
+        Objects.checkFromIndexSize(0, size, array.length);
+        return new SimpleArrayList<>(array, size);
+    }
+
+    /**
+     * @param initSize     начальная ёмкость
+     * @param growthPolicy стратегия роста внутреннего массива
+     */
+    public SimpleArrayList(int initSize, GrowthPolicy growthPolicy) {
+        this(initSize);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * Метод задаёт стратегию роста внутреннего массива, по умолчанию
+     * {@link GrowthPolicy#DOUBLING}
+     *
+     * @param growthPolicy стратегия роста
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * Метод вычисляет ёмкость, достаточную для minCapacity элементов:
+     * по стратегии роста, но не меньше minCapacity
+     */
+    private int newCapacity(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array length is too large: " + Integer.toUnsignedString(minCapacity));
+        }
+        return Math.max(growthPolicy.grow(data.length), minCapacity);
+    }
+
+    /**
+     * Метод увеличивает массив одним копированием так, чтобы в нём
+     * поместилось не меньше minCapacity элементов
+     */
+    private void grow(int minCapacity) {
+        data = Arrays.copyOf(data, newCapacity(minCapacity));
+        shared = false;
+    }
+
+    /**
+     * Метод заранее увеличивает ёмкость списка, чтобы последующие
+     * minCapacity - size() добавлений обошлись без копирования массива
+     *
+     * @param minCapacity требуемая ёмкость
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Метод уменьшает ёмкость внутреннего массива до размера списка
+     */
+    public void trimToSize() {
+        if (size < data.length) {
+            data = Arrays.copyOf(data, size);
+            shared = false;
+        }
+    }
+
+    /**
+     * Метод копирует внутренний массив перед изменением элементов
+     * [0, size), если массив разделён со снимком. Добавление в конец
+     * пишет за границей снимков и массив не копирует.
+     */
+    private void unshare() {
+        if (shared) {
+            data = Arrays.copyOf(data, data.length);
+            shared = false;
+        }
+    }
+
+    /**
+     * Метод возвращает неизменяемый снимок текущего содержимого списка за O(1).
+     * Снимок разделяет внутренний массив со списком; массив копируется один раз
+     * при первом после снятия снимка изменении уже существующих элементов
+     * (set, вставка и удаление, сортировка, clear). Добавление в конец списка
+     * снимок не затрагивает и массив не копирует, кроме обычного роста ёмкости.
+     * Снимок можно обходить из другого потока, пока список продолжает меняться:
+     * ConcurrentModificationException при этом не возникает.
+     *
+     * @return возвращает неизменяемый список с элементами на момент вызова
+     */
+    public List<E> snapshot() {
+        shared = true;
+        return new Snapshot<>(data, size);
+    }
+
+    /**
+     * Неизменяемое представление префикса разделённого массива
+     *
+     * @param <E> Тип данных, хранимых в коллекции
+     */
+    private static class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] data;
+        private final int size;
+
+        Snapshot(Object[] data, int size) {
+            this.data = data;
+            this.size = size;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) data[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOf(data, size, Object[].class);
+        }
     }
 
     /**
@@ -51,8 +239,11 @@ public class SimpleArrayList<E> implements List<E> {
      */
     @Override
     public boolean contains(Object o) {
+        if (indexEnabled) {
+            return indexOf(o) != -1;
+        }
         boolean result = false;
-        for (int i = 0; i <= size; i++) {
+        for (int i = 0; i < size; i++) {
             if (Objects.equals(o, data[i])) {
                 result = true;
                 break;
@@ -61,6 +252,51 @@ public class SimpleArrayList<E> implements List<E> {
         return result;
     }
 
+    /**
+     * Метод включает хеш-индекс «элемент - позиция первого вхождения».
+     * Индекс строится при первом поиске после включения или изменения
+     * списка; после этого contains, indexOf и containsAll работают
+     * за O(1) на элемент. Добавление в конец поддерживает индекс,
+     * остальные изменения списка (по modCount) делают его недействительным
+     * до следующего поиска. Подходит для списков, которые читаются чаще,
+     * чем изменяются. Элементы должны корректно реализовывать hashCode.
+     */
+    public void enableHashIndex() {
+        indexEnabled = true;
+    }
+
+    /**
+     * Метод выключает хеш-индекс и освобождает занятую им память
+     */
+    public void disableHashIndex() {
+        indexEnabled = false;
+        hashIndex = null;
+    }
+
+    private HashMap<Object, Integer> validIndex() {
+        if (hashIndex == null || indexModCount != modCount) {
+            hashIndex = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+            for (int i = 0; i < size; i++) {
+                hashIndex.putIfAbsent(data[i], i);
+            }
+            indexModCount = modCount;
+        }
+        return hashIndex;
+    }
+
+    /**
+     * Метод дополняет действительный индекс элементами, добавленными
+     * в конец списка начиная с позиции from. Вызывается после modCount++.
+     */
+    private void indexAppended(int from) {
+        if (hashIndex != null && indexModCount == modCount - 1) {
+            for (int i = from; i < size; i++) {
+                hashIndex.putIfAbsent(data[i], i);
+            }
+            indexModCount = modCount;
+        }
+    }
+
     /**
      * Метод возвращает Итератор по списку
      *
@@ -116,23 +352,180 @@ public class SimpleArrayList<E> implements List<E> {
     }
 
     /**
-     * Метод не реализован, выбрасывает UnsupportedOperationException
+     * Метод возвращает сплитератор по внутреннему массиву списка с характеристиками
+     * ORDERED, SIZED и SUBSIZED: он делится пополам без копирования, поэтому
+     * parallelStream() распределяет работу между потоками равными частями.
+     * Сплитератор позднего связывания: границы и modCount фиксируются
+     * при первом обходе, делении или запросе размера, а не при создании.
+     *
+     * @return Возвращает сплитератор по списку
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * Сплитератор по диапазону [index, fence) внутреннего массива
+     */
+    private class ArraySpliterator implements Spliterator<E> {
+        private int index;
+        /**
+         * -1 до первого использования, затем граница диапазона (не включительно)
+         */
+        private int fence;
+        private int expModCount;
+
+        ArraySpliterator(int index, int fence, int expModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expModCount = expModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArraySpliterator(lo, mid, expModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            E e = (E) data[index++];
+            action.accept(e);
+            checkMod();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            Object[] arr = data;
+            for (int i = index; i < hi; i++) {
+                action.accept((E) arr[i]);
+            }
+            index = hi;
+            checkMod();
+        }
+
+        private void checkMod() {
+            if (expModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Метод возвращает копию содержимого списка одним System.arraycopy
      *
-     * @return
+     * @return возвращает новый массив Object[] длины size()
      */
     @Override
     public Object[] toArray() {
-        throw new UnsupportedOperationException();
+        Object[] result = new Object[size];
+        System.arraycopy(data, 0, result, 0, size);
+        return result;
     }
 
     /**
-     * Метод не реализован, выбрасывает UnsupportedOperationException
+     * Метод копирует содержимое списка в массив a, если он достаточно длинный,
+     * иначе в новый массив того же типа. Если в массиве a остаётся место,
+     * элемент сразу за последним скопированным обнуляется.
      *
-     * @return
+     * @param a массив, в который копируются элементы
+     * @return возвращает массив с элементами списка
+     * @throws ArrayStoreException если элементы списка нельзя записать в массив типа a
      */
     @Override
     public <T> T[] toArray(T[] a) {
-        throw new UnsupportedOperationException();
+        if (a.length < size) {
+            return (T[]) Arrays.copyOf(data, size, a.getClass());
+        }
+        System.arraycopy(data, 0, a, 0, size);
+        if (a.length > size) {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Метод сохраняет список в файл: заголовок {@link BinaryListFormat}
+     * и элементы, записанные кодеком, через буферизованный поток поверх FileChannel
+     *
+     * @param path  путь к файлу, существующий файл перезаписывается
+     * @param codec кодек элементов
+     * @throws IOException при ошибке записи
+     */
+    public void writeTo(Path path, ElementCodec<? super E> codec) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BinaryListFormat.writeHeader(channel, BinaryListFormat.TYPE_OBJECT, size);
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            for (int i = 0; i < size; i++) {
+                codec.write(out, (E) data[i]);
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * Метод загружает список, сохранённый {@link #writeTo(Path, ElementCodec)}.
+     * Внутренний массив растёт по мере чтения элементов, поэтому повреждённый
+     * заголовок не приводит к выделению огромного массива.
+     *
+     * @param path  путь к файлу
+     * @param codec кодек элементов, которым список был записан
+     * @param <E>   Тип данных, хранимых в коллекции
+     * @return возвращает новый список с содержимым файла
+     * @throws IOException при ошибке чтения или если файл не является файлом списка
+     *                     или повреждён
+     */
+    public static <E> SimpleArrayList<E> readFrom(Path path, ElementCodec<E> codec) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // каждый элемент занимает в файле хотя бы один байт
+            long count = BinaryListFormat.readHeader(channel, BinaryListFormat.TYPE_OBJECT, 1);
+            if (count > GrowthPolicy.MAX_ARRAY_SIZE) {
+                throw new IOException("List is too large for an array: " + count + " elements");
+            }
+            channel.position(BinaryListFormat.HEADER_SIZE);
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            SimpleArrayList<E> list = new SimpleArrayList<>((int) Math.min(count, 1 << 16));
+            for (long i = 0; i < count; i++) {
+                list.add(codec.read(in));
+            }
+            return list;
+        }
     }
 
     /**
@@ -146,9 +539,10 @@ public class SimpleArrayList<E> implements List<E> {
     public boolean add(E e) {
         modCount++;
         if (size == data.length) {
-            grow();
+            grow(size + 1);
         }
         data[size++] = e;
+        indexAppended(size - 1);
         return true;
     }
 
@@ -163,7 +557,6 @@ public class SimpleArrayList<E> implements List<E> {
         boolean result = false;
         int index = indexOf(o);
         if (index != -1) {
-            modCount++;
             result = true;
             remove(index);
         }
@@ -204,11 +597,12 @@ public class SimpleArrayList<E> implements List<E> {
             return false;
         }
         modCount++;
-        while (arr.length > data.length - size) {
-            grow();
+        if (arr.length > data.length - size) {
+            grow(size + arr.length);
         }
         System.arraycopy(arr, 0, data, size, arr.length);
         size += arr.length;
+        indexAppended(size - arr.length);
         return true;
     }
 
@@ -229,10 +623,15 @@ public class SimpleArrayList<E> implements List<E> {
             return false;
         }
         modCount++;
-        while (arr.length > data.length - size) {
-            grow();
-        }
-        if (index < size) {
+        if (arr.length > data.length - size) {
+            // новый массив заполняется сразу с промежутком под вставку, без второго сдвига
+            Object[] newData = new Object[newCapacity(size + arr.length)];
+            System.arraycopy(data, 0, newData, 0, index);
+            System.arraycopy(data, index, newData, index + arr.length, size - index);
+            data = newData;
+            shared = false;
+        } else if (index < size) {
+            unshare();
             System.arraycopy(data, index, data, index + arr.length, size-index);
         }
         System.arraycopy(arr, 0, data, index, arr.length);
@@ -241,30 +640,22 @@ public class SimpleArrayList<E> implements List<E> {
     }
 
     /**
-     * Метод удаляет все элементы коллекции с, которые были в списке
+     * Метод удаляет все элементы коллекции с, которые были в списке.
+     * Список уплотняется за один проход без выделения нового массива.
      *
      * @param c коллекция элементов, которые подлежат удалению из списка
      * @return возвращает true если в результате из списка был удален
      * хотя бы один элемент коллекции
+     * @throws NullPointerException если коллекция c==null
      */
     @Override
     public boolean removeAll(Collection<?> c) {
-        if (c.size() == 0) {
-            return false;
-        }
-        boolean result = false;
-        Iterator it = c.iterator();
-
-        while (it.hasNext()) {
-            result = result | remove(it.next());
-        }
-
-        return result;
+        return batchRemove(c, false, 0, size) > 0;
     }
 
     /**
      * Метод оставляет в списке только те элементы, которые есть
-     * в коллекции c
+     * в коллекции c. Список уплотняется за один проход без выделения нового массива.
      *
      * @return возвращает true если в результате применения
      * операции список был изменен.
@@ -272,21 +663,63 @@ public class SimpleArrayList<E> implements List<E> {
      */
     @Override
     public boolean retainAll(Collection<?> c) {
-        if (null == c) {
-            throw new NullPointerException();
-        }
+        return batchRemove(c, true, 0, size) > 0;
+    }
 
-        Object[] newData = new Object[data.length];
-        int i = 0;
-        for (int j = 0; j < size; j++) {
-            if (c.contains(data[j])) {
-                newData[i++] = data[j];
+    /**
+     * Метод сдвигает к началу диапазона [from, to) элементы, для которых
+     * принадлежность коллекции c совпадает с retain, подтягивает за ними
+     * хвост списка и обнуляет освободившиеся ячейки
+     *
+     * @return возвращает количество удалённых элементов
+     */
+    private int batchRemove(Collection<?> c, boolean retain, int from, int to) {
+        Collection<?> lookup = membershipLookup(c);
+        int i = from;
+        while (i < to && lookup.contains(data[i]) == retain) {
+            i++;
+        }
+        if (i == to) {
+            return 0;
+        }
+        unshare();
+        for (int j = i + 1; j < to; j++) {
+            if (lookup.contains(data[j]) == retain) {
+                data[i++] = data[j];
             }
         }
-        boolean result = (i != size);
-        data = newData;
-        size = i;
-        return result;
+        int removed = to - i;
+        System.arraycopy(data, to, data, i, size - to);
+        modCount++;
+        Arrays.fill(data, size - removed, size, null);
+        size -= removed;
+        return removed;
+    }
+
+    /**
+     * Метод удаляет элементы с индексами из [from, to) одним сдвигом хвоста
+     */
+    private void removeRange(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        modCount++;
+        unshare();
+        System.arraycopy(data, to, data, from, size - to);
+        Arrays.fill(data, size - (to - from), size, null);
+        size -= to - from;
+    }
+
+    /**
+     * Метод возвращает коллекцию для проверки принадлежности: большие
+     * коллекции, не являющиеся множествами, копируются в HashSet,
+     * чтобы contains выполнялся за O(1), а не за линейное время
+     */
+    private Collection<?> membershipLookup(Collection<?> c) {
+        if (c.size() > HASH_LOOKUP_THRESHOLD && !(c instanceof Set)) {
+            return new HashSet<>(c);
+        }
+        return c;
     }
 
     /**
@@ -297,10 +730,14 @@ public class SimpleArrayList<E> implements List<E> {
         if (size > 0) {
             modCount++;
         }
+        if (shared) {
+            data = new Object[data.length];
+            shared = false;
+            size = 0;
+        }
         while (size > 0) {
             data[--size] = null;
         }
-        data[size] = null;
     }
 
     /**
@@ -329,6 +766,7 @@ public class SimpleArrayList<E> implements List<E> {
     public E set(int index, E element) {
         E result = get(index);
         modCount++;
+        unshare();
         data[index] = element;
         return result;
     }
@@ -346,7 +784,9 @@ public class SimpleArrayList<E> implements List<E> {
         Objects.checkIndex(index, size + 1);
         modCount++;
         if (size == data.length) {
-            grow();
+            grow(size + 1);
+        } else if (index < size) {
+            unshare();
         }
         System.arraycopy(data, index, data, index + 1, size - index);
         data[index] = element;
@@ -365,12 +805,14 @@ public class SimpleArrayList<E> implements List<E> {
     @Override
     public E remove(int index) {
         Objects.checkIndex(index, size);
+        modCount++;
+        unshare();
+        E result = (E) data[index];
         final int newSize = size - 1;
         if (index < newSize) {
             System.arraycopy(data, index + 1, data, index, newSize - index);
         }
-        E result = (E) data[size = newSize];
-        data[size] = null;
+        data[size = newSize] = null;
         return result;
     }
 
@@ -383,6 +825,9 @@ public class SimpleArrayList<E> implements List<E> {
      */
     @Override
     public int indexOf(Object o) {
+        if (indexEnabled) {
+            return validIndex().getOrDefault(o, -1);
+        }
         int index = -1;
         for (int i = 0; i < size; i++) {
             if (Objects.equals(o, data[i])) {
@@ -402,43 +847,278 @@ public class SimpleArrayList<E> implements List<E> {
      */
     @Override
     public int lastIndexOf(Object o) {
-        int index = -1;
-        for (int i = 0; i < size; i++) {
-            if (Objects.equals(0, data[i])) {
-                index = i;
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, data[i])) {
+                return i;
             }
         }
-        return index;
+        return -1;
     }
 
     /**
-     * Метод не реализован, выбрасывает UnsupportedOperationException
+     * Метод возвращает итератор списка, начинающий с первого элемента
      *
-     * @return
+     * @return Возвращает итератор списка
      */
     @Override
     public ListIterator<E> listIterator() {
-        throw new UnsupportedOperationException();
+        return new InnerListIterator(0);
     }
 
     /**
-     * Метод не реализован, выбрасывает UnsupportedOperationException
+     * Метод возвращает итератор списка, начинающий с позиции index
      *
-     * @return
+     * @param index индекс элемента, который вернёт первый вызов next()
+     * @return Возвращает итератор списка. Если индекс выходит за границы
+     * списка выбрасывается исключение IndexOutOfBoundsException
      */
     @Override
     public ListIterator<E> listIterator(int index) {
-        throw new UnsupportedOperationException();
+        Objects.checkIndex(index, size + 1);
+        return new InnerListIterator(index);
+    }
+
+    /**
+     * Двунаправленный итератор по SimpleArrayList. Изменения через сам
+     * итератор (set, add, remove) выполняются на месте во внутреннем массиве,
+     * любые другие изменения списка приводят к ConcurrentModificationException.
+     */
+    private class InnerListIterator implements ListIterator<E> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expModCount = modCount;
+
+        InnerListIterator(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public E next() {
+            checkMod();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return (E) data[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkMod();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = --cursor;
+            return (E) data[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkReturned();
+            SimpleArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            checkReturned();
+            SimpleArrayList.this.set(lastReturned, e);
+            expModCount = modCount;
+        }
+
+        @Override
+        public void add(E e) {
+            checkMod();
+            SimpleArrayList.this.add(cursor++, e);
+            lastReturned = -1;
+            expModCount = modCount;
+        }
+
+        private void checkReturned() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkMod();
+        }
+
+        private void checkMod() {
+            if (expModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 
     /**
-     * Метод не реализован, выбрасывает UnsupportedOperationException
+     * Метод возвращает представление части списка [fromIndex, toIndex) без копирования:
+     * представление работает с тем же внутренним массивом, изменения видны в обе стороны.
+     * Сортировка, очистка, removeAll и retainAll представления затрагивают только
+     * его диапазон. После структурного изменения списка в обход представления
+     * операции представления выбрасывают ConcurrentModificationException.
      *
-     * @return
+     * @param fromIndex начало диапазона (включительно)
+     * @param toIndex   конец диапазона (не включительно)
+     * @return возвращает представление части списка
      */
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        throw new UnsupportedOperationException();
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Представление диапазона внутреннего массива. Вложенные представления
+     * хранят ссылку на родителя, чтобы при вставке и удалении обновить
+     * размеры всей цепочки.
+     */
+    private class SubList extends AbstractList<E> implements RandomAccess {
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private int expModCount = SimpleArrayList.this.modCount;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        private void checkMod() {
+            if (expModCount != SimpleArrayList.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void updateSize(int delta) {
+            for (SubList s = this; s != null; s = s.parent) {
+                s.size += delta;
+                s.expModCount = SimpleArrayList.this.modCount;
+                s.modCount++;
+            }
+        }
+
+        @Override
+        public int size() {
+            checkMod();
+            return size;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            checkMod();
+            return (E) data[offset + index];
+        }
+
+        @Override
+        public E set(int index, E element) {
+            Objects.checkIndex(index, size);
+            checkMod();
+            E result = SimpleArrayList.this.set(offset + index, element);
+            updateSize(0);
+            return result;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            Objects.checkIndex(index, size + 1);
+            checkMod();
+            SimpleArrayList.this.add(offset + index, element);
+            updateSize(1);
+        }
+
+        @Override
+        public E remove(int index) {
+            Objects.checkIndex(index, size);
+            checkMod();
+            E result = SimpleArrayList.this.remove(offset + index);
+            updateSize(-1);
+            return result;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkMod();
+            SimpleArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSize(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(size, c);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            Objects.checkIndex(index, size + 1);
+            checkMod();
+            int before = SimpleArrayList.this.size;
+            if (!SimpleArrayList.this.addAll(offset + index, c)) {
+                return false;
+            }
+            updateSize(SimpleArrayList.this.size - before);
+            return true;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            return batchRemove(c, false);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            return batchRemove(c, true);
+        }
+
+        private boolean batchRemove(Collection<?> c, boolean retain) {
+            checkMod();
+            int removed = SimpleArrayList.this.batchRemove(c, retain, offset, offset + size);
+            if (removed == 0) {
+                return false;
+            }
+            updateSize(-removed);
+            return true;
+        }
+
+        @Override
+        public void sort(Comparator<? super E> c) {
+            checkMod();
+            sortRange(offset, offset + size - 1, c);
+            updateSize(0);
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkMod();
+            return Arrays.copyOfRange(data, offset, offset + size, Object[].class);
+        }
     }
 
     /**
@@ -448,43 +1128,108 @@ public class SimpleArrayList<E> implements List<E> {
      */
     @Override
     public void sort(Comparator<? super E> c) {
+        modCount++;
+        unshare();
         innerQuickSort(0, size - 1, c);
     }
 
+    /**
+     * Метод сортирует список с выбранной схемой разбиения
+     *
+     * @param c    компаратор, сравнивающий элементы списка для сортировки
+     * @param mode схема разбиения, для данных с большим числом одинаковых
+     *             ключей следует выбирать {@link PartitionMode#THREE_WAY}
+     */
+    public void sort(Comparator<? super E> c, PartitionMode mode) {
+        modCount++;
+        unshare();
+        if (mode == PartitionMode.THREE_WAY) {
+            ListSorting.threeWayQuickSort(data, 0, size - 1, (Comparator) c);
+        } else {
+            innerQuickSort(0, size - 1, c);
+        }
+    }
+
+    /**
+     * Метод сортирует диапазон [begin, end] внутреннего массива трёхчастной
+     * быстрой сортировкой, для представлений {@link #subList(int, int)}
+     */
+    private void sortRange(int begin, int end, Comparator<? super E> c) {
+        modCount++;
+        unshare();
+        ListSorting.threeWayQuickSort(data, begin, end, (Comparator) c);
+    }
+
     private void innerQuickSort(int begin, int end, Comparator<? super E> comparator) {
-        if (begin < end) {
-            int partitionIndex = partition(begin, end, comparator);
+        ListSorting.introSort(data, begin, end, (Comparator) comparator);
+    }
 
-            innerQuickSort(begin, partitionIndex - 1, comparator);
-            innerQuickSort(partitionIndex + 1, end, comparator);
+    /**
+     * Метод сортирует список параллельно в общем пуле ForkJoinPool.commonPool().
+     * Сортировка идёт прямо во внутреннем массиве, без копирования; используется
+     * трёхчастное разбиение, части длиннее {@link #PARALLEL_SORT_THRESHOLD}
+     * сортируются в разных потоках. Компаратор должен допускать вызов
+     * из нескольких потоков одновременно.
+     *
+     * @param c компаратор, сравнивающий элементы списка для сортировки
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        parallelSort(c, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Метод сортирует список параллельно в переданном пуле
+     *
+     * @param c    компаратор, сравнивающий элементы списка для сортировки
+     * @param pool пул, в котором выполняется сортировка
+     */
+    public void parallelSort(Comparator<? super E> c, ForkJoinPool pool) {
+        modCount++;
+        unshare();
+        if (size < PARALLEL_SORT_THRESHOLD || pool.getParallelism() == 1) {
+            ListSorting.threeWayQuickSort(data, 0, size - 1, (Comparator) c);
+        } else {
+            pool.invoke(new ParallelSortTask(data, 0, size - 1, QSortInt.depthLimit(size), (Comparator) c));
         }
     }
 
-    private int partition(int begin, int end, Comparator<? super E> comparator) {
-        int pivotPos = end;
-        Object pivot = data[end];
+    /**
+     * Задача не сериализуется: элементы и компаратор могут быть любыми
+     */
+    @SuppressWarnings("serial")
+    private static class ParallelSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
 
-        Comparator c = (Comparator) comparator;
+        private final Object[] arr;
+        private final int begin;
+        private final int end;
+        private final int depth;
+        private final Comparator<Object> c;
 
-        int i = (begin - 1);
-        for (int j = begin; j < end; j++) {
-            if (c.compare(data[j], pivot) <= 0) {
-                i++;
-                if (i != j) {
-                    swap(i, j);
-                }
-            }
+        ParallelSortTask(Object[] arr, int begin, int end, int depth, Comparator<Object> c) {
+            this.arr = arr;
+            this.begin = begin;
+            this.end = end;
+            this.depth = depth;
+            this.c = c;
         }
-        swap(i + 1, pivotPos);
-        return i + 1;
-    }
 
-    private void swap(int i, int j) {
-        Object tmp = data[i];
-        data[i] = data[j];
-        data[j] = tmp;
-    }
+        @Override
+        protected void compute() {
+            if (end - begin < PARALLEL_SORT_THRESHOLD) {
+                ListSorting.threeWayQuickSort(arr, begin, end, depth, c);
+            } else if (depth == 0) {
+                ListSorting.heapSort(arr, begin, end, c);
+            } else {
+                long bounds = ListSorting.threeWayPartition(arr, begin, end, c);
+                int lt = (int) (bounds >>> 32);
+                int gt = (int) bounds;
 
+                invokeAll(new ParallelSortTask(arr, begin, lt - 1, depth - 1, c),
+                        new ParallelSortTask(arr, gt + 1, end, depth - 1, c));
+            }
+        }
+    }
 
     @Override
     public String toString() {
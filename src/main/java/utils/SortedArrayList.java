@@ -0,0 +1,280 @@
+package utils;
+
+import java.util.*;
+
+/**
+ * Список на массиве, элементы которого всегда упорядочены компаратором.
+ * Поиск (contains, indexOf, lastIndexOf, remove(Object)) и запросы диапазонов
+ * выполняются двоичным поиском за O(log n) вместо линейного просмотра
+ * {@link SimpleArrayList}. Добавление вставляет элемент на его место
+ * (после равных ему), addAll сливает отсортированную пачку со списком за O(n + m).
+ * Вставка по индексу и set нарушили бы порядок, поэтому не поддерживаются.
+ * <p>
+ * Равенство для поиска определяется компаратором, а среди равных по компаратору
+ * элементов нужный выбирается по equals, как требует контракт List.
+ *
+ * @param <E> Тип данных, хранимых в коллекции
+ */
+public class SortedArrayList<E> extends AbstractList<E> implements RandomAccess {
+
+    public static final int DEFAULT_INITIAL_CAPACITY = 4;
+    private final Comparator<Object> comparator;
+    private int size;
+    private Object[] data;
+
+    /**
+     * Создаёт список, упорядоченный по естественному порядку элементов
+     */
+    public SortedArrayList() {
+        this((Comparator<? super E>) Comparator.naturalOrder());
+    }
+
+    /**
+     * @param comparator компаратор, задающий порядок элементов
+     */
+    public SortedArrayList(Comparator<? super E> comparator) {
+        this.comparator = (Comparator<Object>) Objects.requireNonNull(comparator);
+        data = new Object[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > data.length) {
+            data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+        }
+    }
+
+    /**
+     * @return возвращает компаратор, задающий порядок элементов списка
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Метод получения размера списка
+     *
+     * @return Возвращает количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод получения элемента списка по индексу
+     *
+     * @param index индекс - номер элемента в списке, счет ведется с 0
+     * @return возвращает элемент по указанной позиции, если индекс
+     * находится за пределами списка выбрасывает IndexOutOfBoundsException
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) data[index];
+    }
+
+    /**
+     * Метод находит первую позицию, элемент на которой не меньше key
+     *
+     * @param key искомое значение
+     * @return возвращает индекс от 0 до size() включительно
+     */
+    public int lowerBound(Object key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(data[middle], key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Метод находит первую позицию, элемент на которой больше key
+     *
+     * @param key искомое значение
+     * @return возвращает индекс от 0 до size() включительно
+     */
+    public int upperBound(Object key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(data[middle], key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Метод добавляет элемент на его место в порядке списка за O(log n)
+     * сравнений и O(n) сдвига. Равные элементы сохраняют порядок добавления.
+     *
+     * @param e добавляемый элемент
+     * @return возвращает true (элемент добавляется всегда, пока есть свободная память)
+     */
+    @Override
+    public boolean add(E e) {
+        int index = upperBound(e);
+        modCount++;
+        ensureCapacity(size + 1);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = e;
+        size++;
+        return true;
+    }
+
+    /**
+     * Метод сливает элементы коллекции со списком. Коллекция сортируется
+     * устойчивой сортировкой, затем оба упорядоченных набора сливаются
+     * с конца массива на месте за O(n + m).
+     *
+     * @param c коллекция с элементами для добавления в список
+     * @return возвращает true если в список добавлен хотя бы один элемент
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] batch = c.toArray();
+        if (batch.length == 0) {
+            return false;
+        }
+        Arrays.sort(batch, 0, batch.length, comparator);
+        modCount++;
+        ensureCapacity(size + batch.length);
+
+        int i = size - 1;
+        int j = batch.length - 1;
+        int k = size + batch.length - 1;
+        while (j >= 0) {
+            // при равенстве первым с конца уходит элемент пачки: он добавлен позже
+            if (i >= 0 && comparator.compare(data[i], batch[j]) > 0) {
+                data[k--] = data[i--];
+            } else {
+                data[k--] = batch[j--];
+            }
+        }
+        size += batch.length;
+        return true;
+    }
+
+    /**
+     * Метод удаления элемента из списка по индексу
+     *
+     * @param index позиция элемента в списке, который надо удалить
+     * @return возвращает удалённый элемент, при неверном индексе
+     * выбрасывает IndexOutOfBoundsException
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        E result = (E) data[index];
+        System.arraycopy(data, index + 1, data, index, size - 1 - index);
+        data[--size] = null;
+        return result;
+    }
+
+    /**
+     * Метод удаления объекта из списка, позиция находится двоичным поиском
+     *
+     * @param o объект, который надо удалить из списка
+     * @return возвращает true если объект был в списке, иначе возвращает false
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Метод для нахождения индекса первого вхождения элемента двоичным поиском
+     *
+     * @param o элемент, который ищем в списке
+     * @return возвращает индекс первого найденного вхождения или -1
+     * @throws ClassCastException если элемент нельзя сравнить компаратором списка
+     */
+    @Override
+    public int indexOf(Object o) {
+        for (int i = lowerBound(o); i < size && comparator.compare(data[i], o) == 0; i++) {
+            if (Objects.equals(o, data[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод для нахождения индекса последнего вхождения элемента двоичным поиском
+     *
+     * @param o элемент, который ищем в списке
+     * @return возвращает индекс последнего найденного вхождения или -1
+     * @throws ClassCastException если элемент нельзя сравнить компаратором списка
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = upperBound(o) - 1; i >= 0 && comparator.compare(data[i], o) == 0; i--) {
+            if (Objects.equals(o, data[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    /**
+     * Метод возвращает представление элементов из полуинтервала [from, to)
+     * в порядке списка. Представление изменяется вместе со списком,
+     * как {@link #subList(int, int)}.
+     *
+     * @param from нижняя граница диапазона (включительно)
+     * @param to   верхняя граница диапазона (не включительно)
+     * @return возвращает список элементов диапазона
+     */
+    public List<E> range(E from, E to) {
+        int begin = lowerBound(from);
+        return subList(begin, Math.max(begin, lowerBound(to)));
+    }
+
+    /**
+     * Метод подсчитывает элементы из полуинтервала [from, to) за O(log n)
+     *
+     * @param from нижняя граница диапазона (включительно)
+     * @param to   верхняя граница диапазона (не включительно)
+     * @return возвращает количество элементов диапазона
+     */
+    public int countRange(E from, E to) {
+        return Math.max(0, lowerBound(to) - lowerBound(from));
+    }
+
+    /**
+     * Метод удаляет все элементы из списка
+     */
+    @Override
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+        }
+        Arrays.fill(data, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+}
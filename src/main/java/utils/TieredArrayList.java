@@ -0,0 +1,308 @@
+package utils;
+
+import java.util.*;
+
+/**
+ * Список на «ярусном векторе» (tiered vector). Элементы лежат плотно в блоках
+ * одинаковой ёмкости B, каждый блок - кольцевой буфер; заполнены все блоки,
+ * кроме последнего. Элемент с индексом i находится в блоке i / B,
+ * поэтому get и set работают за O(1).
+ * <p>
+ * При вставке в середину сдвигается только содержимое одного блока (O(B)),
+ * а в каждом следующем блоке последний элемент переносится в начало
+ * соседнего блока за O(1), всего O(B + n / B). Ёмкость блока поддерживается
+ * порядка sqrt(n): когда блоков становится больше 2B, B удваивается
+ * и список перестраивается. Поэтому вставка и удаление по индексу сдвигают
+ * O(sqrt(n)) элементов вместо O(n) у {@link SimpleArrayList}.
+ *
+ * @param <E> Тип данных, хранимых в коллекции
+ */
+public class TieredArrayList<E> extends AbstractList<E> implements RandomAccess {
+
+    static final int MIN_CHUNK_SHIFT = 4;
+
+    private int chunkShift;
+    private int chunkMask;
+    private Object[][] chunks;
+    private int[] heads;
+    private int chunkCount;
+    private int size;
+
+    public TieredArrayList() {
+        init(MIN_CHUNK_SHIFT);
+    }
+
+    private void init(int shift) {
+        chunkShift = shift;
+        chunkMask = (1 << shift) - 1;
+        chunks = new Object[4][];
+        heads = new int[4];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    private int chunkSize(int chunk) {
+        return Math.min(chunkMask + 1, size - (chunk << chunkShift));
+    }
+
+    private Object element(int chunk, int offset) {
+        return chunks[chunk][(heads[chunk] + offset) & chunkMask];
+    }
+
+    private void setElement(int chunk, int offset, Object e) {
+        chunks[chunk][(heads[chunk] + offset) & chunkMask] = e;
+    }
+
+    /**
+     * Метод готовит место под ещё один элемент: при необходимости
+     * перестраивает список с вдвое большими блоками и добавляет пустой блок
+     */
+    private void ensureRoomForOne() {
+        if (size < chunkCount << chunkShift) {
+            return;
+        }
+        if (chunkCount >= 2 << chunkShift) {
+            rebuild(toArray(), chunkShift + 1);
+        }
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            heads = Arrays.copyOf(heads, chunkCount * 2);
+        }
+        chunks[chunkCount] = new Object[chunkMask + 1];
+        heads[chunkCount] = 0;
+        chunkCount++;
+    }
+
+    private void rebuild(Object[] elements, int shift) {
+        init(shift);
+        int blockSize = 1 << shift;
+        int count = (elements.length + blockSize - 1) >>> shift;
+        chunks = new Object[Math.max(count, 4)][];
+        heads = new int[chunks.length];
+        for (int c = 0; c < count; c++) {
+            Object[] chunk = new Object[blockSize];
+            int from = c << shift;
+            System.arraycopy(elements, from, chunk, 0, Math.min(blockSize, elements.length - from));
+            chunks[c] = chunk;
+        }
+        chunkCount = count;
+        size = elements.length;
+    }
+
+    /**
+     * Метод получения размера списка
+     *
+     * @return Возвращает количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод получения элемента списка по индексу
+     *
+     * @param index индекс - номер элемента в списке, счет ведется с 0
+     * @return возвращает элемент по указанной позиции, если индекс
+     * находится за пределами списка выбрасывает IndexOutOfBoundsException
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) element(index >>> chunkShift, index & chunkMask);
+    }
+
+    /**
+     * Метод замены элемента по индексу в списке
+     *
+     * @param index   номер элемента в списке, который надо заменить
+     * @param element элемент, на который надо заменить элемент в списке
+     * @return возвращает элемент списка, который был заменён
+     */
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        int chunk = index >>> chunkShift;
+        int offset = index & chunkMask;
+        E result = (E) element(chunk, offset);
+        setElement(chunk, offset, element);
+        return result;
+    }
+
+    /**
+     * Метод добавления элемента в конец списка
+     *
+     * @param e добавляемый элемент
+     * @return возвращает true (элемент добавляется всегда, пока есть свободная память)
+     */
+    @Override
+    public boolean add(E e) {
+        modCount++;
+        ensureRoomForOne();
+        setElement(size >>> chunkShift, size & chunkMask, e);
+        size++;
+        return true;
+    }
+
+    /**
+     * Метод вставляет элемент на указанную позицию в списке за O(sqrt(n))
+     *
+     * @param index   индекс, куда вставляется элемент
+     * @param element элемент для вставки
+     *                Если индекс выходит за границы списка выбрасывается исключение
+     *                IndexOutOfBoundsException
+     */
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        modCount++;
+        ensureRoomForOne();
+
+        int target = index >>> chunkShift;
+        int last = size >>> chunkShift;
+        int lastOffset = size & chunkMask;
+        // каждый блок после target отдаёт последний элемент в начало следующего
+        for (int c = last; c > target; c--) {
+            int from = c - 1;
+            int fromPos = (heads[from] + chunkMask) & chunkMask;
+            heads[c] = (heads[c] - 1) & chunkMask;
+            chunks[c][heads[c]] = chunks[from][fromPos];
+            chunks[from][fromPos] = null;
+            lastOffset = chunkMask;
+        }
+
+        int offset = index & chunkMask;
+        for (int i = lastOffset; i > offset; i--) {
+            setElement(target, i, element(target, i - 1));
+        }
+        setElement(target, offset, element);
+        size++;
+    }
+
+    /**
+     * Метод удаления элемента из списка по индексу за O(sqrt(n))
+     *
+     * @param index позиция элемента в списке, который надо удалить
+     * @return возвращает удалённый элемент, при неверном индексе
+     * выбрасывает IndexOutOfBoundsException
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+
+        int target = index >>> chunkShift;
+        int offset = index & chunkMask;
+        int count = chunkSize(target);
+        E result = (E) element(target, offset);
+        for (int i = offset; i < count - 1; i++) {
+            setElement(target, i, element(target, i + 1));
+        }
+        setElement(target, count - 1, null);
+
+        // каждый следующий блок отдаёт первый элемент в конец предыдущего
+        int last = (size - 1) >>> chunkShift;
+        for (int c = target + 1; c <= last; c++) {
+            int to = c - 1;
+            chunks[to][(heads[to] + chunkMask) & chunkMask] = chunks[c][heads[c]];
+            chunks[c][heads[c]] = null;
+            heads[c] = (heads[c] + 1) & chunkMask;
+        }
+        size--;
+        if ((size & chunkMask) == 0 && chunkCount > (size >>> chunkShift)) {
+            chunks[--chunkCount] = null;
+        }
+        return result;
+    }
+
+    /**
+     * Метод добавляет все элементы коллекции c в список, начиная с индекса index.
+     * Большие коллекции вставляются перестройкой списка за O(n + m),
+     * небольшие - поэлементно.
+     *
+     * @param index позиция в списке, с которой начинается вставка
+     * @param c     коллекция элементов, которые будут вставлены
+     * @return возвращает true если в список добавлен хотя бы один элемент
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Objects.checkIndex(index, size + 1);
+        Object[] arr = c.toArray();
+        if (arr.length == 0) {
+            return false;
+        }
+        modCount++;
+        if (arr.length <= chunkMask + 1) {
+            for (Object e : arr) {
+                add(index++, (E) e);
+            }
+            return true;
+        }
+
+        Object[] current = toArray();
+        Object[] merged = new Object[current.length + arr.length];
+        System.arraycopy(current, 0, merged, 0, index);
+        System.arraycopy(arr, 0, merged, index, arr.length);
+        System.arraycopy(current, index, merged, index + arr.length, current.length - index);
+
+        int shift = MIN_CHUNK_SHIFT;
+        while ((merged.length >>> shift) > (2 << shift)) {
+            shift++;
+        }
+        rebuild(merged, shift);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    /**
+     * Метод удаляет все элементы из списка
+     */
+    @Override
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+        }
+        init(MIN_CHUNK_SHIFT);
+    }
+
+    /**
+     * Метод для нахождения индекса первого вхождения элемента в список
+     *
+     * @param o элемент, который ищем в списке
+     * @return возвращает индекс первого найденного вхождения или -1
+     */
+    @Override
+    public int indexOf(Object o) {
+        for (int c = 0, base = 0; base < size; c++, base += chunkMask + 1) {
+            int count = chunkSize(c);
+            for (int i = 0; i < count; i++) {
+                if (Objects.equals(o, element(c, i))) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int c = 0, base = 0; base < size; c++, base += chunkMask + 1) {
+            int count = chunkSize(c);
+            int head = heads[c];
+            int firstPart = Math.min(count, chunkMask + 1 - head);
+            System.arraycopy(chunks[c], head, result, base, firstPart);
+            System.arraycopy(chunks[c], 0, result, base + firstPart, count - firstPart);
+        }
+        return result;
+    }
+}
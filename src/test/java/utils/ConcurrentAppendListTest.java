@@ -0,0 +1,123 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentAppendListTest {
+
+    @Test
+    public void whenAddAcrossChunks() {
+        List<Integer> list = new ConcurrentAppendList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+        Assert.assertEquals(10_000, list.size());
+        for (int i = 0; i < 10_000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        Object[] array = list.toArray();
+        Assert.assertEquals(10_000, array.length);
+        Assert.assertEquals(9_999, array[9_999]);
+    }
+
+    @Test
+    public void whenChunkBoundaries() {
+        Assert.assertEquals(0, ConcurrentAppendList.chunkIndex(0));
+        Assert.assertEquals(0, ConcurrentAppendList.chunkOffset(0, 0));
+        Assert.assertEquals(0, ConcurrentAppendList.chunkIndex(15));
+        Assert.assertEquals(15, ConcurrentAppendList.chunkOffset(15, 0));
+        Assert.assertEquals(1, ConcurrentAppendList.chunkIndex(16));
+        Assert.assertEquals(0, ConcurrentAppendList.chunkOffset(16, 1));
+        Assert.assertEquals(1, ConcurrentAppendList.chunkIndex(47));
+        Assert.assertEquals(31, ConcurrentAppendList.chunkOffset(47, 1));
+
+        long last = ConcurrentAppendList.MAX_SIZE - 1;
+        int lastChunk = ConcurrentAppendList.chunkIndex(last);
+        Assert.assertEquals(ConcurrentAppendList.CHUNK_COUNT - 1, lastChunk);
+        Assert.assertEquals((1 << 30) - 1, ConcurrentAppendList.chunkOffset(last, lastChunk));
+        Assert.assertEquals(ConcurrentAppendList.CHUNK_COUNT,
+                ConcurrentAppendList.chunkIndex(ConcurrentAppendList.MAX_SIZE));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void whenAddNull() {
+        new ConcurrentAppendList<>().add(null);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void whenGetBeyondPrefix() {
+        List<String> list = new ConcurrentAppendList<>();
+        list.add("Hector");
+        list.get(1);
+    }
+
+    @Test
+    public void whenIteratorDoesNotSeeLaterElements() {
+        List<String> list = new ConcurrentAppendList<>();
+        list.add("Hector");
+        list.add("Gustavo");
+        Iterator<String> it = list.iterator();
+        list.add("Walter");
+        Assert.assertEquals("Hector", it.next());
+        Assert.assertEquals("Gustavo", it.next());
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals(3, list.size());
+    }
+
+    @Test
+    public void whenManyProducersAppend() throws InterruptedException {
+        int producers = 16;
+        int perProducer = 20_000;
+        ConcurrentAppendList<Integer> list = new ConcurrentAppendList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicBoolean prefixBroken = new AtomicBoolean();
+
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                int size = list.size();
+                for (int i = Math.max(0, size - 100); i < size; i++) {
+                    if (list.get(i) == null) {
+                        prefixBroken.set(true);
+                    }
+                }
+            }
+        });
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    list.add(base + i);
+                }
+            }));
+        }
+        reader.start();
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        done.set(true);
+        reader.join();
+
+        Assert.assertFalse(prefixBroken.get());
+        Assert.assertEquals(producers * perProducer, list.size());
+        boolean[] seen = new boolean[producers * perProducer];
+        for (Integer value : list) {
+            Assert.assertFalse(seen[value]);
+            seen[value] = true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GrowthPolicyTest {
+
+    @Test
+    public void whenGrowWithPolicies() {
+        Assert.assertEquals(200, GrowthPolicy.DOUBLING.grow(100));
+        Assert.assertEquals(150, GrowthPolicy.ONE_AND_HALF.grow(100));
+        Assert.assertEquals(1_100, GrowthPolicy.additive(1_000).grow(100));
+        Assert.assertEquals(200, GrowthPolicy.cappedDoubling(1_000).grow(100));
+        Assert.assertEquals(11_000, GrowthPolicy.cappedDoubling(1_000).grow(10_000));
+    }
+
+    @Test
+    public void whenGrowNearLimit() {
+        int large = GrowthPolicy.MAX_ARRAY_SIZE - 10;
+        Assert.assertEquals(GrowthPolicy.MAX_ARRAY_SIZE, GrowthPolicy.DOUBLING.grow(large));
+        Assert.assertEquals(GrowthPolicy.MAX_ARRAY_SIZE, GrowthPolicy.ONE_AND_HALF.grow(large));
+        Assert.assertEquals(GrowthPolicy.MAX_ARRAY_SIZE, GrowthPolicy.additive(100).grow(large));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenAdditiveStepIsNotPositive() {
+        GrowthPolicy.additive(0);
+    }
+}
@@ -0,0 +1,166 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+public class IntArrayListTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void whenAddAllLargerThanDoubledCapacity() {
+        IntArrayList list = new IntArrayList(1);
+        list.add(-1);
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        Assert.assertTrue(list.addAll(values));
+        list.add(1000);
+        Assert.assertEquals(1002, list.size());
+        Assert.assertEquals(-1, list.get(0));
+        Assert.assertEquals(999, list.get(1000));
+        Assert.assertEquals(1000, list.get(1001));
+    }
+
+    @Test
+    public void whenAddMany() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(list.add(i * 2));
+        }
+        Assert.assertEquals(100, list.size());
+        Assert.assertTrue(list.contains(198));
+        Assert.assertFalse(list.contains(199));
+        Assert.assertEquals(50, list.indexOf(100));
+        Assert.assertEquals(-1, list.indexOf(7));
+    }
+
+    @Test
+    public void whenAddAtIndexAndRemove() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(new int[]{1, 2, 4});
+        list.add(2, 3);
+        list.add(0, 0);
+        Assert.assertArrayEquals(new int[]{0, 1, 2, 3, 4}, list.toArray());
+
+        Assert.assertEquals(2, list.removeAt(2));
+        Assert.assertTrue(list.removeValue(4));
+        Assert.assertFalse(list.removeValue(42));
+        Assert.assertArrayEquals(new int[]{0, 1, 3}, list.toArray());
+    }
+
+    @Test
+    public void whenSetAndLastIndexOf() {
+        IntArrayList list = new IntArrayList(1);
+        list.addAll(new int[]{5, 6, 5});
+        Assert.assertEquals(6, list.set(1, 5));
+        Assert.assertEquals(2, list.lastIndexOf(5));
+        Assert.assertEquals("[5, 5, 5]", list.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void whenGetOutOfRange() {
+        IntArrayList list = new IntArrayList();
+        list.add(1);
+        list.get(1);
+    }
+
+    @Test
+    public void whenSortAndBinarySearch() {
+        IntArrayList list = new IntArrayList();
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            list.add(random.nextInt());
+        }
+        list.add(17);
+
+        list.sort();
+
+        for (int i = 1; i < list.size(); i++) {
+            Assert.assertTrue(list.get(i - 1) <= list.get(i));
+        }
+        Assert.assertEquals(17, list.get(list.binarySearch(17)));
+    }
+
+    @Test
+    public void whenParallelSort() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 50_000; i > 0; i--) {
+            list.add(i);
+        }
+        list.parallelSort();
+        for (int i = 0; i < list.size(); i++) {
+            Assert.assertEquals(i + 1, list.get(i));
+        }
+    }
+
+    @Test
+    public void whenClear() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(new int[]{1, 2, 3});
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals("[]", list.toString());
+    }
+
+    @Test
+    public void usualIterUsage() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(new int[]{3, 1});
+        PrimitiveIterator.OfInt it = list.iterator();
+        Assert.assertEquals(3, it.nextInt());
+        Assert.assertEquals(1, it.nextInt());
+        Assert.assertFalse(it.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void whenIterNextOnEmpty() {
+        new IntArrayList().iterator().nextInt();
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void whenModifyListAfterGetIter() {
+        IntArrayList list = new IntArrayList();
+        list.add(1);
+        PrimitiveIterator.OfInt it = list.iterator();
+        list.add(2);
+        it.nextInt();
+    }
+
+    @Test
+    public void whenWriteAndReadBack() throws IOException {
+        IntArrayList list = new IntArrayList();
+        for (int i = -5_000; i < 300_000; i++) {
+            list.add(i * 7);
+        }
+        Path file = folder.newFile().toPath();
+        list.writeTo(file);
+        Assert.assertEquals(16 + 4L * list.size(), Files.size(file));
+
+        IntArrayList loaded = IntArrayList.readFrom(file);
+        Assert.assertArrayEquals(list.toArray(), loaded.toArray());
+        loaded.add(1);
+        Assert.assertEquals(list.size() + 1, loaded.size());
+    }
+
+    @Test(expected = IOException.class)
+    public void whenReadLongListAsIntList() throws IOException {
+        LongArrayList list = new LongArrayList();
+        list.add(1);
+        Path file = folder.newFile().toPath();
+        list.writeTo(file);
+        IntArrayList.readFrom(file);
+    }
+}
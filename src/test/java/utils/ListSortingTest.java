@@ -0,0 +1,301 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class ListSortingTest {
+
+    private static List<Integer> randomList(int size, int bound, long seed) {
+        Random random = new Random(seed);
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(bound));
+        }
+        return list;
+    }
+
+    @Test
+    public void whenUsualSorting() {
+        List<String> list = new ArrayList<>(List.of("Eagle", "Pig", "Boar", "Wolf", "Tiger"));
+        ListSorting.quickSort(list, Comparator.naturalOrder());
+        Assert.assertEquals(List.of("Boar", "Eagle", "Pig", "Tiger", "Wolf"), list);
+    }
+
+    @Test
+    public void whenSortingEmptyDontCrush() {
+        List<String> list = new ArrayList<>();
+        ListSorting.quickSort(list);
+        Assert.assertEquals(0, list.size());
+    }
+
+    /* Тесты для трёхчастного разбиения */
+    @Test
+    public void whenThreeWaySortingFewDistinctKeys() {
+        List<Integer> list = randomList(200_000, 4, 1);
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        ListSorting.quickSort(list, Comparator.naturalOrder(), PartitionMode.THREE_WAY);
+
+        Assert.assertEquals(expected, list);
+    }
+
+    @Test
+    public void whenThreeWaySortingAllEqual() {
+        List<Integer> list = new ArrayList<>(Collections.nCopies(200_000, 5));
+        ListSorting.quickSort(list, Comparator.naturalOrder(), PartitionMode.THREE_WAY);
+        Assert.assertEquals(Collections.nCopies(200_000, 5), list);
+    }
+
+    @Test
+    public void whenThreeWaySortingSimpleArrayList() {
+        List<Integer> list = new SimpleArrayList<>();
+        list.addAll(randomList(1000, 1000, 2));
+        List<Integer> expected = new ArrayList<>(randomList(1000, 1000, 2));
+        expected.sort(Comparator.reverseOrder());
+
+        ListSorting.quickSort(list, Comparator.reverseOrder(), PartitionMode.THREE_WAY);
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void whenTwoWayModeSorting() {
+        List<Integer> list = randomList(1000, 50, 3);
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        ListSorting.quickSort(list, Comparator.naturalOrder(), PartitionMode.TWO_WAY);
+
+        Assert.assertEquals(expected, list);
+    }
+
+    @Test
+    public void whenTwoWaySortingSortedAndReversedLarge() {
+        List<Integer> sorted = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            sorted.add(i);
+        }
+        List<Integer> expected = new ArrayList<>(sorted);
+
+        ListSorting.quickSort(sorted, Comparator.naturalOrder());
+        Assert.assertEquals(expected, sorted);
+
+        List<Integer> reversed = new ArrayList<>(expected);
+        Collections.reverse(reversed);
+        ListSorting.quickSort(reversed, Comparator.naturalOrder());
+        Assert.assertEquals(expected, reversed);
+    }
+
+    @Test
+    public void whenTwoWaySortingAllEqualAndSawtooth() {
+        List<Integer> equal = new ArrayList<>(Collections.nCopies(100_000, 5));
+        ListSorting.quickSort(equal, Comparator.naturalOrder());
+        Assert.assertEquals(Collections.nCopies(100_000, 5), equal);
+
+        List<Integer> sawtooth = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            sawtooth.add(i % 1000);
+        }
+        List<Integer> expected = new ArrayList<>(sawtooth);
+        Collections.sort(expected);
+        ListSorting.quickSort(sawtooth, Comparator.naturalOrder());
+        Assert.assertEquals(expected, sawtooth);
+    }
+
+    /* Тесты для списков разных типов */
+    @Test
+    public void whenSortingLinkedList() {
+        List<Integer> list = new LinkedList<>(randomList(50_000, 1_000_000, 4));
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        ListSorting.quickSort(list);
+
+        Assert.assertEquals(expected, list);
+    }
+
+    @Test
+    public void whenSortingLinkedListThreeWayMode() {
+        List<Integer> list = new LinkedList<>(randomList(1000, 3, 5));
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        ListSorting.quickSort(list, Comparator.naturalOrder(), PartitionMode.THREE_WAY);
+
+        Assert.assertEquals(expected, list);
+    }
+
+    @Test
+    public void whenSortingSimpleArrayListThroughArray() {
+        List<Integer> source = randomList(10_000, 100_000, 6);
+        List<Integer> list = new SimpleArrayList<>();
+        list.addAll(source);
+        List<Integer> expected = new ArrayList<>(source);
+        Collections.sort(expected);
+
+        ListSorting.quickSort(list);
+
+        Assert.assertTrue(list instanceof RandomAccess);
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void whenSortingSingletonLinkedList() {
+        List<String> list = new LinkedList<>(List.of("Dog"));
+        ListSorting.quickSort(list);
+        Assert.assertEquals(List.of("Dog"), list);
+    }
+
+    /* Тесты для stableSort */
+    @Test
+    public void whenStableSortingRandom() {
+        for (int size : new int[]{0, 1, 2, 31, 32, 100, 1000, 100_000}) {
+            List<Integer> list = randomList(size, 1_000_000, size);
+            List<Integer> expected = new ArrayList<>(list);
+            Collections.sort(expected);
+
+            ListSorting.stableSort(list);
+
+            Assert.assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    public void whenStableSortingKeepsOrderOfEqualKeys() {
+        Random random = new Random(8);
+        List<int[]> list = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            list.add(new int[]{random.nextInt(20), i});
+        }
+        List<int[]> expected = new ArrayList<>(list);
+        expected.sort(Comparator.comparingInt(pair -> pair[0]));
+
+        ListSorting.stableSort(list, Comparator.comparingInt(pair -> pair[0]));
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertSame(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void whenStableSortingConcatenatedBatches() {
+        List<Integer> list = new ArrayList<>();
+        for (int batch = 0; batch < 10; batch++) {
+            List<Integer> part = randomList(10_000, 1_000_000, batch);
+            Collections.sort(part);
+            if (batch % 3 == 0) {
+                Collections.reverse(part);
+            }
+            list.addAll(part);
+        }
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        Counter comparisons = new Counter();
+        ListSorting.stableSort(list, (a, b) -> {
+            comparisons.value++;
+            return Integer.compare(a, b);
+        });
+
+        Assert.assertEquals(expected, list);
+        // 100 000 элементов: n*log2(n) было бы около 1.7 млн сравнений
+        Assert.assertTrue(comparisons.value < 600_000);
+    }
+
+    @Test
+    public void whenStableSortingInterleavedRunsWithGallop() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            list.add(i / 100 % 2 == 0 ? i : 40_000 - i);
+        }
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        ListSorting.stableSort(list);
+
+        Assert.assertEquals(expected, list);
+    }
+
+    @Test
+    public void whenStableSortingLinkedList() {
+        List<Integer> list = new LinkedList<>(randomList(5000, 10, 9));
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        ListSorting.stableSort(list, Comparator.naturalOrder());
+
+        Assert.assertEquals(expected, list);
+    }
+
+    /* Тесты для sortByIntKey и sortByLongKey */
+    @Test
+    public void whenSortingByIntKey() {
+        List<String> list = new ArrayList<>(List.of("Eagle", "Pig", "Boar", "Wolf", "Tiger", "Ox"));
+        ListSorting.sortByIntKey(list, String::length);
+        Assert.assertEquals(List.of("Ox", "Pig", "Boar", "Wolf", "Eagle", "Tiger"), list);
+    }
+
+    @Test
+    public void whenSortingByIntKeyWithNegativesIsStable() {
+        Random random = new Random(10);
+        List<int[]> list = new SimpleArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(new int[]{random.nextInt(2001) - 1000, i});
+        }
+        List<int[]> expected = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            expected.add(list.get(i));
+        }
+        expected.sort(Comparator.comparingInt(pair -> pair[0]));
+
+        ListSorting.sortByIntKey(list, pair -> pair[0]);
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertSame(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void whenSortingByIntKeyExtremes() {
+        List<Integer> list = new ArrayList<>(List.of(Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1));
+        ListSorting.sortByIntKey(list, Integer::intValue);
+        Assert.assertEquals(List.of(Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE), list);
+    }
+
+    @Test
+    public void whenSortingByLongKeyIsStable() {
+        Random random = new Random(11);
+        List<long[]> list = new LinkedList<>();
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextBoolean() ? random.nextLong() : random.nextInt(10);
+            list.add(new long[]{key, i});
+        }
+        List<long[]> expected = new ArrayList<>(list);
+        expected.sort(Comparator.comparingLong(pair -> pair[0]));
+
+        ListSorting.sortByLongKey(list, pair -> pair[0]);
+
+        Iterator<long[]> it = list.iterator();
+        for (long[] pair : expected) {
+            Assert.assertSame(pair, it.next());
+        }
+    }
+
+    @Test
+    public void whenSortingByLongKeyEmptyDontCrush() {
+        List<Long> list = new ArrayList<>();
+        ListSorting.sortByLongKey(list, Long::longValue);
+        Assert.assertEquals(0, list.size());
+    }
+
+    private static class Counter {
+        long value;
+    }
+}
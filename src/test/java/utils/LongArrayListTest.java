@@ -0,0 +1,115 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+public class LongArrayListTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void whenAddAllLargerThanDoubledCapacity() {
+        LongArrayList list = new LongArrayList(1);
+        list.add(-1);
+        long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        Assert.assertTrue(list.addAll(values));
+        list.add(1000);
+        Assert.assertEquals(1002, list.size());
+        Assert.assertEquals(-1, list.get(0));
+        Assert.assertEquals(999, list.get(1000));
+        Assert.assertEquals(1000, list.get(1001));
+    }
+
+    @Test
+    public void whenAddAndRemoveAtHead() {
+        LongArrayList list = new LongArrayList();
+        for (long i = 0; i < 10_000; i++) {
+            list.add(0, i);
+        }
+        Assert.assertEquals(10_000, list.size());
+        Assert.assertEquals(9_999L, list.get(0));
+        for (int i = 0; i < 10_000; i++) {
+            list.removeAt(0);
+        }
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void whenSearchLargeValues() {
+        LongArrayList list = new LongArrayList();
+        list.addAll(new long[]{Long.MAX_VALUE, Long.MIN_VALUE, 1L << 40});
+        Assert.assertTrue(list.contains(1L << 40));
+        Assert.assertEquals(1, list.indexOf(Long.MIN_VALUE));
+        Assert.assertTrue(list.removeValue(Long.MAX_VALUE));
+        Assert.assertArrayEquals(new long[]{Long.MIN_VALUE, 1L << 40}, list.toArray());
+    }
+
+    @Test
+    public void whenSortTimestamps() {
+        LongArrayList list = new LongArrayList();
+        Random random = new Random(2);
+        long now = 1_700_000_000_000L;
+        for (int i = 0; i < 100_000; i++) {
+            list.add(now + random.nextInt(1_000_000));
+        }
+
+        list.sort();
+
+        for (int i = 1; i < list.size(); i++) {
+            Assert.assertTrue(list.get(i - 1) <= list.get(i));
+        }
+        long probe = list.get(500);
+        Assert.assertEquals(probe, list.get(list.binarySearch(probe)));
+        Assert.assertTrue(list.binarySearch(now - 1) < 0);
+    }
+
+    @Test
+    public void whenParallelSortAndIterate() {
+        LongArrayList list = new LongArrayList();
+        for (long i = 30_000; i > 0; i--) {
+            list.add(i);
+        }
+        list.parallelSort();
+
+        PrimitiveIterator.OfLong it = list.iterator();
+        long expected = 1;
+        while (it.hasNext()) {
+            Assert.assertEquals(expected++, it.nextLong());
+        }
+        Assert.assertEquals(30_001L, expected);
+    }
+
+    @Test
+    public void whenWriteAndReadBack() throws IOException {
+        LongArrayList list = new LongArrayList();
+        list.addAll(new long[]{Long.MIN_VALUE, -1, 0, 1L << 40, Long.MAX_VALUE});
+        Path file = folder.newFile().toPath();
+        list.writeTo(file);
+        Assert.assertArrayEquals(list.toArray(), LongArrayList.readFrom(file).toArray());
+    }
+
+    @Test(expected = IOException.class)
+    public void whenHeaderCountOverflows() throws IOException {
+        Path file = folder.newFile().toPath();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // 16 + 2^61 * 8 переполняется в 16 и совпадает с размером файла
+            BinaryListFormat.writeHeader(channel, BinaryListFormat.TYPE_LONG, 1L << 61);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            BinaryListFormat.readHeader(channel, BinaryListFormat.TYPE_LONG, Long.BYTES);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+public class OffHeapIntListTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void whenSortManySegments() {
+        OffHeapIntList list = new OffHeapIntList(1 << 10);
+        Random random = new Random(4);
+        int[] expected = new int[70_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(1_000) - 500;
+        }
+        list.addAll(expected);
+        Arrays.sort(expected);
+
+        list.sort();
+
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(expected[i], list.get(i));
+        }
+        Assert.assertTrue(list.binarySearch(1_000) < 0);
+        Assert.assertEquals(expected[100], list.get(list.binarySearch(expected[100])));
+    }
+
+    @Test
+    public void whenSearchValues() {
+        OffHeapIntList list = new OffHeapIntList(2);
+        list.addAll(new int[]{3, 1, 4, 1, 5});
+        Assert.assertEquals(1, list.indexOf(1));
+        Assert.assertEquals(3, list.lastIndexOf(1));
+        Assert.assertFalse(list.contains(2));
+        Assert.assertEquals(5, list.size());
+    }
+
+    @Test
+    public void whenWriteAndMapBack() throws IOException {
+        OffHeapIntList list = new OffHeapIntList(16);
+        for (int i = 0; i < 100; i++) {
+            list.add(100 - i);
+        }
+        Path file = folder.newFile().toPath();
+        list.writeTo(file);
+
+        OffHeapIntList mapped = OffHeapIntList.map(file, 32);
+        mapped.sort();
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i + 1, mapped.get(i));
+        }
+        Assert.assertEquals(100, IntArrayList.readFrom(file).get(0));
+    }
+}
@@ -0,0 +1,126 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+public class OffHeapLongListTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void whenAddAcrossSegments() {
+        OffHeapLongList list = new OffHeapLongList(16);
+        for (long i = 0; i < 1_000; i++) {
+            list.add(i * 3);
+        }
+        list.addAll(new long[]{-1, -2, -3});
+        Assert.assertEquals(1_003, list.size());
+        Assert.assertEquals(999L * 3, list.get(999));
+        Assert.assertEquals(-3L, list.get(1_002));
+        Assert.assertEquals(30L, list.set(10, 7));
+        Assert.assertEquals(7L, list.get(10));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void whenGetOutOfBounds() {
+        OffHeapLongList list = new OffHeapLongList(16);
+        list.add(1);
+        list.get(1);
+    }
+
+    @Test
+    public void whenSearchValues() {
+        OffHeapLongList list = new OffHeapLongList(4);
+        list.addAll(new long[]{5, Long.MIN_VALUE, 1L << 40, 5, Long.MAX_VALUE});
+        Assert.assertTrue(list.contains(1L << 40));
+        Assert.assertFalse(list.contains(6));
+        Assert.assertEquals(0, list.indexOf(5));
+        Assert.assertEquals(3, list.lastIndexOf(5));
+        Assert.assertEquals(-1, list.indexOf(6));
+    }
+
+    @Test
+    public void whenSortManySegments() {
+        OffHeapLongList list = new OffHeapLongList(1 << 10);
+        Random random = new Random(3);
+        long[] expected = new long[50_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextLong();
+        }
+        list.addAll(expected);
+        Arrays.sort(expected);
+
+        list.sort();
+
+        Assert.assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(expected[i], list.get(i));
+        }
+        Assert.assertEquals(12_345, list.binarySearch(expected[12_345]));
+        Assert.assertEquals(-1, list.binarySearch(Long.MIN_VALUE));
+        list.add(Long.MAX_VALUE);
+        Assert.assertEquals(Long.MAX_VALUE, list.get(expected.length));
+    }
+
+    @Test
+    public void whenClearAndIterate() {
+        OffHeapLongList list = new OffHeapLongList(8);
+        list.addAll(new long[]{1, 2, 3});
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+        for (long i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        PrimitiveIterator.OfLong it = list.iterator();
+        long expected = 0;
+        while (it.hasNext()) {
+            Assert.assertEquals(expected++, it.nextLong());
+        }
+        Assert.assertEquals(20L, expected);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void whenModifiedDuringIteration() {
+        OffHeapLongList list = new OffHeapLongList(8);
+        list.add(1);
+        PrimitiveIterator.OfLong it = list.iterator();
+        list.add(2);
+        it.nextLong();
+    }
+
+    @Test
+    public void whenMapFileWrittenByLongArrayList() throws IOException {
+        LongArrayList source = new LongArrayList();
+        for (long i = 0; i < 1_000; i++) {
+            source.add(i * i);
+        }
+        Path file = folder.newFile().toPath();
+        source.writeTo(file);
+
+        OffHeapLongList mapped = OffHeapLongList.map(file, 64);
+        Assert.assertEquals(1_000, mapped.size());
+        Assert.assertEquals(999L * 999, mapped.get(999));
+        Assert.assertEquals(500, mapped.binarySearch(500L * 500));
+
+        mapped.set(0, -1);
+        mapped.add(-2);
+        Assert.assertEquals(0L, LongArrayList.readFrom(file).get(0));
+
+        Path copy = folder.newFile().toPath();
+        mapped.writeTo(copy);
+        LongArrayList reloaded = LongArrayList.readFrom(copy);
+        Assert.assertEquals(1_001, reloaded.size());
+        Assert.assertEquals(-1L, reloaded.get(0));
+        Assert.assertEquals(-2L, reloaded.get(1_000));
+    }
+}
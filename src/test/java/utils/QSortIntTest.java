@@ -0,0 +1,316 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+public class QSortIntTest {
+
+    /* Наибольший размер, который quickSort ещё сортирует сравнениями */
+    private static final int INTRO_SORT_SIZE = QSortInt.RADIX_SORT_THRESHOLD - 1;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static int[] randomArray(int size, long seed) {
+        Random random = new Random(seed);
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = random.nextInt();
+        }
+        return arr;
+    }
+
+    @Test
+    public void whenUsualSorting() {
+        int[] data = {1, 2, 7, 2, 10, 6};
+        QSortInt.quickSort(data, 0, data.length - 1);
+        Assert.assertArrayEquals(new int[]{1, 2, 2, 6, 7, 10}, data);
+    }
+
+    @Test
+    public void whenSortingEmptyDontCrush() {
+        int[] data = {};
+        QSortInt.quickSort(data, 0, data.length - 1);
+        Assert.assertEquals(0, data.length);
+    }
+
+    @Test
+    public void whenSortingEverySmallSize() {
+        for (int size = 0; size < 300; size++) {
+            int[] data = randomArray(size, size);
+            int[] expected = data.clone();
+            Arrays.sort(expected);
+            QSortInt.quickSort(data, 0, data.length - 1);
+            Assert.assertArrayEquals(expected, data);
+        }
+    }
+
+    @Test
+    public void whenSortingAlreadySortedLarge() {
+        int[] data = new int[INTRO_SORT_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+        }
+        int[] expected = data.clone();
+        QSortInt.quickSort(data, 0, data.length - 1);
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenSortingReversedLarge() {
+        int[] data = new int[INTRO_SORT_SIZE];
+        int[] expected = new int[data.length];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = data.length - i;
+            expected[i] = i + 1;
+        }
+        QSortInt.quickSort(data, 0, data.length - 1);
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenSortingAllEqualAndFewDistinct() {
+        int[] equal = new int[INTRO_SORT_SIZE];
+        Arrays.fill(equal, 7);
+        QSortInt.quickSort(equal, 0, equal.length - 1);
+        for (int value : equal) {
+            Assert.assertEquals(7, value);
+        }
+
+        int[] sawtooth = new int[INTRO_SORT_SIZE];
+        for (int i = 0; i < sawtooth.length; i++) {
+            sawtooth[i] = i % 5 - 2;
+        }
+        int[] expected = sawtooth.clone();
+        Arrays.sort(expected);
+        QSortInt.quickSort(sawtooth, 0, sawtooth.length - 1);
+        Assert.assertArrayEquals(expected, sawtooth);
+    }
+
+    @Test
+    public void whenSortingOrganPipe() {
+        int[] data = new int[INTRO_SORT_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i < data.length / 2 ? i : data.length - i;
+        }
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        QSortInt.quickSort(data, 0, data.length - 1);
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenSortingWithReusedScratch() {
+        int[] scratch = new int[QSortInt.RADIX_SORT_THRESHOLD * 2];
+        for (long seed = 0; seed < 3; seed++) {
+            int[] data = randomArray(QSortInt.RADIX_SORT_THRESHOLD * 2, seed);
+            int[] expected = data.clone();
+            Arrays.sort(expected);
+            QSortInt.quickSort(data, 0, data.length - 1, scratch);
+            Assert.assertArrayEquals(expected, data);
+        }
+    }
+
+    /* Тесты для radixSort */
+    @Test
+    public void whenRadixSortingWithNegatives() {
+        int[] data = {5, -1, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -300, 256, -256, 1};
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        QSortInt.radixSort(data);
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenRadixSortingRandomLarge() {
+        int[] data = randomArray(300_000, 4);
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        QSortInt.radixSort(data);
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenRadixSortingSkipsUniformBytes() {
+        int[] data = new int[10_000];
+        Random random = new Random(5);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 0x1200_0000 | (random.nextInt(256) << 8);
+        }
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        QSortInt.radixSort(data);
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenRadixSortingRangeWithReusedScratch() {
+        int[] scratch = new int[1000];
+        for (int round = 0; round < 3; round++) {
+            int[] data = randomArray(1200, round);
+            int[] expected = data.clone();
+            Arrays.sort(expected, 100, 1100);
+            QSortInt.radixSort(data, 100, 1099, scratch);
+            Assert.assertArrayEquals(expected, data);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenRadixSortingWithShortScratch() {
+        QSortInt.radixSort(new int[10], 0, 9, new int[5]);
+    }
+
+    @Test
+    public void whenQuickSortAboveRadixThreshold() {
+        int[] data = randomArray(QSortInt.RADIX_SORT_THRESHOLD + 17, 6);
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        QSortInt.quickSort(data, 0, data.length - 1);
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    /* Тесты для parallelQuickSort */
+    @Test
+    public void whenParallelSortingLarge() {
+        int[] data = randomArray(200_000, 1);
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+
+        QSortInt.parallelQuickSort(data, 0, data.length - 1);
+
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenParallelSortingInOwnPool() {
+        int[] data = randomArray(100_000, 2);
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            QSortInt.parallelQuickSort(data, 0, data.length - 1, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenParallelSortingRangeOnly() {
+        int[] data = randomArray(50_000, 3);
+        int[] expected = data.clone();
+        Arrays.sort(expected, 100, 40_000);
+
+        QSortInt.parallelQuickSort(data, 100, 39_999);
+
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenParallelSortingSortedLarge() {
+        int[] data = new int[1_000_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+        }
+        int[] expected = data.clone();
+        QSortInt.parallelQuickSort(data, 0, data.length - 1);
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenParallelSortingSmallDontCrush() {
+        int[] data = {3, 1, 2};
+        QSortInt.parallelQuickSort(data, 0, data.length - 1);
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, data);
+    }
+
+    @Test
+    public void whenExternalSortingWithManyRuns() throws IOException {
+        int[] data = randomArray(100_000, 4);
+        Path input = writeInts(data);
+        Path output = folder.getRoot().toPath().resolve("sorted.bin");
+
+        QSortInt.externalSort(input, output, 64 * 1024);
+
+        Arrays.sort(data);
+        Assert.assertArrayEquals(data, readInts(output));
+        try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            Assert.assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void whenExternalSortingFitsInBudget() throws IOException {
+        int[] data = {5, -1, Integer.MIN_VALUE, 3, Integer.MAX_VALUE, 0};
+        Path output = folder.getRoot().toPath().resolve("sorted.bin");
+
+        QSortInt.externalSort(writeInts(data), output, 1 << 20);
+
+        Assert.assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 3, 5, Integer.MAX_VALUE}, readInts(output));
+    }
+
+    @Test
+    public void whenExternalSortingMergesInSeveralPasses() throws IOException {
+        int runs = 2 * ExternalIntSort.MAX_MERGE_WAYS + 1;
+        int[] data = randomArray(runs * ExternalIntSort.MIN_CHUNK_INTS - 7, 5);
+        Path output = folder.getRoot().toPath().resolve("sorted.bin");
+
+        QSortInt.externalSort(writeInts(data), output, 1);
+
+        Arrays.sort(data);
+        Assert.assertArrayEquals(data, readInts(output));
+        try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            Assert.assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void whenExternalSortingIntoSameFile() throws IOException {
+        int[] data = {3, 1, 2};
+        Path input = writeInts(data);
+        try {
+            QSortInt.externalSort(input, input, 1 << 20);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertArrayEquals(data, readInts(input));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void whenExternalSortingHeaderlessFile() throws IOException {
+        Path input = folder.newFile().toPath();
+        Files.write(input, new byte[64]);
+        QSortInt.externalSort(input, folder.getRoot().toPath().resolve("sorted.bin"), 1 << 20);
+    }
+
+    @Test(expected = IOException.class)
+    public void whenExternalSortingTruncatedFile() throws IOException {
+        Path input = folder.newFile().toPath();
+        Files.write(input, new byte[]{1, 2, 3});
+        QSortInt.externalSort(input, folder.getRoot().toPath().resolve("sorted.bin"), 1 << 20);
+    }
+
+    private Path writeInts(int[] data) throws IOException {
+        IntArrayList list = new IntArrayList();
+        list.addAll(data);
+        Path file = folder.newFile().toPath();
+        list.writeTo(file);
+        return file;
+    }
+
+    private static int[] readInts(Path file) throws IOException {
+        return IntArrayList.readFrom(file).toArray();
+    }
+}
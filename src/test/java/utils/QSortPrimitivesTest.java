@@ -0,0 +1,183 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class QSortPrimitivesTest {
+
+    /* Размеры: вставки, интроспективная сортировка, параллельная, поразрядная */
+    private static final int[] SIZES = {0, 1, 20, 1000, 20_000, QSortInt.RADIX_SORT_THRESHOLD + 5};
+
+    private static double[] doubles(int size, long seed) {
+        Random random = new Random(seed);
+        double[] arr = new double[size];
+        for (int i = 0; i < size; i++) {
+            switch (random.nextInt(10)) {
+                case 0 -> arr[i] = Double.NaN;
+                case 1 -> arr[i] = -0.0;
+                case 2 -> arr[i] = 0.0;
+                case 3 -> arr[i] = random.nextBoolean() ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+                default -> arr[i] = random.nextGaussian() * 1000;
+            }
+        }
+        return arr;
+    }
+
+    private static float[] floats(int size, long seed) {
+        double[] source = doubles(size, seed);
+        float[] arr = new float[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = (float) source[i];
+        }
+        return arr;
+    }
+
+    @Test
+    public void whenSortingLongs() {
+        for (int size : SIZES) {
+            long[] data = new Random(size).longs(size).toArray();
+            long[] expected = data.clone();
+            Arrays.sort(expected);
+
+            long[] sequential = data.clone();
+            QSortLong.quickSort(sequential, 0, size - 1);
+            Assert.assertArrayEquals(expected, sequential);
+
+            long[] parallel = data.clone();
+            QSortLong.parallelQuickSort(parallel, 0, size - 1);
+            Assert.assertArrayEquals(expected, parallel);
+
+            long[] radix = data.clone();
+            QSortLong.radixSort(radix);
+            Assert.assertArrayEquals(expected, radix);
+        }
+    }
+
+    @Test
+    public void whenSortingSortedLongs() {
+        long[] data = new long[QSortLong.RADIX_SORT_THRESHOLD - 1];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = System.currentTimeMillis() + i;
+        }
+        long[] expected = data.clone();
+        QSortLong.quickSort(data, 0, data.length - 1);
+        Assert.assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void whenSortingDoublesWithNaNAndZeros() {
+        for (int size : SIZES) {
+            double[] data = doubles(size, size);
+            double[] expected = data.clone();
+            Arrays.sort(expected);
+
+            double[] sequential = data.clone();
+            QSortDouble.quickSort(sequential, 0, size - 1);
+            Assert.assertTrue(Arrays.equals(expected, sequential));
+
+            double[] parallel = data.clone();
+            QSortDouble.parallelQuickSort(parallel, 0, size - 1);
+            Assert.assertTrue(Arrays.equals(expected, parallel));
+
+            double[] radix = data.clone();
+            QSortDouble.radixSort(radix);
+            Assert.assertTrue(Arrays.equals(expected, radix));
+        }
+    }
+
+    @Test
+    public void whenSortingDoublesZerosAreOrdered() {
+        double[] data = {0.0, -0.0, 1.0, Double.NaN, -0.0, -1.0, 0.0};
+        QSortDouble.quickSort(data, 0, data.length - 1);
+        Assert.assertEquals(Double.doubleToRawLongBits(-1.0), Double.doubleToRawLongBits(data[0]));
+        Assert.assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(data[1]));
+        Assert.assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(data[2]));
+        Assert.assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(data[3]));
+        Assert.assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(data[4]));
+        Assert.assertEquals(1.0, data[5], 0.0);
+        Assert.assertTrue(Double.isNaN(data[6]));
+    }
+
+    @Test
+    public void whenSortingAllNaN() {
+        double[] data = {Double.NaN, Double.NaN, Double.NaN};
+        QSortDouble.quickSort(data, 0, data.length - 1);
+        for (double value : data) {
+            Assert.assertTrue(Double.isNaN(value));
+        }
+    }
+
+    @Test
+    public void whenSortingFloatsWithNaNAndZeros() {
+        for (int size : SIZES) {
+            float[] data = floats(size, size);
+            float[] expected = data.clone();
+            Arrays.sort(expected);
+
+            float[] sequential = data.clone();
+            QSortFloat.quickSort(sequential, 0, size - 1);
+            Assert.assertTrue(Arrays.equals(expected, sequential));
+
+            float[] parallel = data.clone();
+            QSortFloat.parallelQuickSort(parallel, 0, size - 1);
+            Assert.assertTrue(Arrays.equals(expected, parallel));
+
+            float[] radix = data.clone();
+            QSortFloat.radixSort(radix);
+            Assert.assertTrue(Arrays.equals(expected, radix));
+        }
+    }
+
+    @Test
+    public void whenSortingShorts() {
+        for (int size : SIZES) {
+            Random random = new Random(size);
+            short[] data = new short[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = (short) random.nextInt();
+            }
+            short[] expected = data.clone();
+            Arrays.sort(expected);
+
+            short[] sequential = data.clone();
+            QSortShort.quickSort(sequential, 0, size - 1);
+            Assert.assertArrayEquals(expected, sequential);
+
+            short[] parallel = data.clone();
+            QSortShort.parallelQuickSort(parallel, 0, size - 1);
+            Assert.assertArrayEquals(expected, parallel);
+
+            short[] radix = data.clone();
+            QSortShort.radixSort(radix);
+            Assert.assertArrayEquals(expected, radix);
+        }
+    }
+
+    @Test
+    public void whenSortingChars() {
+        for (int size : SIZES) {
+            Random random = new Random(size);
+            char[] data = new char[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = (char) random.nextInt();
+            }
+            char[] expected = data.clone();
+            Arrays.sort(expected);
+
+            char[] sequential = data.clone();
+            QSortChar.quickSort(sequential, 0, size - 1);
+            Assert.assertArrayEquals(expected, sequential);
+
+            char[] parallel = data.clone();
+            QSortChar.parallelQuickSort(parallel, 0, size - 1);
+            Assert.assertArrayEquals(expected, parallel);
+
+            char[] radix = data.clone();
+            QSortChar.radixSort(radix);
+            Assert.assertArrayEquals(expected, radix);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class SimpleArrayDequeTest {
+
+    @Test
+    public void whenAddAndRemove100000at0() {
+        SimpleArrayDeque<Long> objects = new SimpleArrayDeque<>();
+        for (int i = 0; i < 100000; i++) {
+            objects.add(0, Long.valueOf(i));
+        }
+        Assert.assertEquals(100000, objects.size());
+        Assert.assertEquals(99999L, objects.get(0).longValue());
+        Assert.assertEquals(0L, objects.get(99999).longValue());
+        for (int i = 0; i < 100000; i++) {
+            objects.remove(0);
+        }
+        Assert.assertEquals(0, objects.size());
+    }
+
+    @Test
+    public void whenUsedAsQueueWithWrapAround() {
+        SimpleArrayDeque<Integer> queue = new SimpleArrayDeque<>(4);
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 1000; round++) {
+            queue.addLast(next++);
+            queue.addLast(next++);
+            Assert.assertEquals(expected++, queue.removeFirst().intValue());
+        }
+        Assert.assertEquals(1000, queue.size());
+        for (int i = 0; i < queue.size(); i++) {
+            Assert.assertEquals(expected + i, queue.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void whenBothEnds() {
+        SimpleArrayDeque<String> deque = new SimpleArrayDeque<>();
+        deque.addFirst("b");
+        deque.addLast("c");
+        deque.addFirst("a");
+        Assert.assertEquals("a", deque.getFirst());
+        Assert.assertEquals("c", deque.getLast());
+        Assert.assertEquals("c", deque.pollLast());
+        Assert.assertEquals("a", deque.pollFirst());
+        Assert.assertEquals("b", deque.peekFirst());
+        Assert.assertEquals("b", deque.peekLast());
+        Assert.assertEquals("b", deque.removeLast());
+        Assert.assertNull(deque.pollFirst());
+        Assert.assertNull(deque.peekLast());
+    }
+
+    @Test
+    public void whenUsedThroughDequeInterface() {
+        Deque<Integer> queue = new SimpleArrayDeque<>();
+        Assert.assertTrue(queue.offer(1));
+        Assert.assertTrue(queue.offerLast(2));
+        Assert.assertTrue(queue.offerFirst(0));
+        Assert.assertEquals(0, queue.peek().intValue());
+        Assert.assertEquals(0, queue.element().intValue());
+        Assert.assertEquals(0, queue.poll().intValue());
+        Assert.assertEquals(1, queue.remove().intValue());
+        queue.push(5);
+        Assert.assertEquals(5, queue.pop().intValue());
+        Assert.assertEquals(2, queue.pollFirst().intValue());
+        Assert.assertNull(queue.poll());
+        Assert.assertNull(queue.peek());
+    }
+
+    @Test
+    public void whenRemoveOccurrencesAndDescendingIterator() {
+        SimpleArrayDeque<String> deque = new SimpleArrayDeque<>();
+        deque.addAll(List.of("Kate", "Leo", "Kate", "Tom"));
+        Assert.assertTrue(deque.removeLastOccurrence("Kate"));
+        Assert.assertFalse(deque.removeFirstOccurrence("Karl"));
+        Assert.assertEquals(List.of("Kate", "Leo", "Tom"), deque);
+
+        List<String> backwards = new ArrayList<>();
+        Iterator<String> it = deque.descendingIterator();
+        while (it.hasNext()) {
+            String s = it.next();
+            backwards.add(s);
+            if (s.equals("Leo")) {
+                it.remove();
+            }
+        }
+        Assert.assertEquals(List.of("Tom", "Leo", "Kate"), backwards);
+        Assert.assertEquals(List.of("Kate", "Tom"), deque);
+    }
+
+    @Test
+    public void whenReversedViewWritesThrough() {
+        SimpleArrayDeque<Integer> deque = new SimpleArrayDeque<>();
+        deque.addAll(List.of(1, 2, 3));
+        SimpleArrayDeque.ReversedView<Integer> reversed = deque.reversed();
+        Assert.assertEquals(List.of(3, 2, 1), reversed);
+        reversed.addFirst(4);
+        reversed.add(1, 5);
+        Assert.assertEquals(List.of(1, 2, 3, 5, 4), deque);
+        Assert.assertEquals(4, reversed.removeFirst().intValue());
+        Assert.assertEquals(1, reversed.pollLast().intValue());
+        Assert.assertEquals(List.of(2, 3, 5), deque);
+        Assert.assertArrayEquals(new Object[]{5, 3, 2}, reversed.toArray());
+        Assert.assertSame(deque, reversed.reversed());
+
+        Deque<Integer> queue = reversed;
+        Assert.assertTrue(queue.offer(7));
+        Assert.assertEquals(5, queue.peek().intValue());
+        Assert.assertEquals(7, queue.descendingIterator().next().intValue());
+        Assert.assertTrue(queue.removeFirstOccurrence(3));
+        Assert.assertTrue(queue.contains(7));
+        Assert.assertEquals(List.of(7, 2, 5), deque);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void whenRemoveFirstOnEmpty() {
+        new SimpleArrayDeque<String>().removeFirst();
+    }
+
+    @Test
+    public void whenInsertAndRemoveInTheMiddleMatchesArrayList() {
+        SimpleArrayDeque<Integer> deque = new SimpleArrayDeque<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(4);
+            if (op < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                deque.add(index, i);
+                expected.add(index, i);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                Assert.assertEquals(expected.remove(index), deque.remove(index));
+            } else {
+                deque.removeFirst();
+                expected.remove(0);
+            }
+        }
+        Assert.assertEquals(expected, deque);
+        Assert.assertArrayEquals(expected.toArray(), deque.toArray());
+    }
+
+    @Test
+    public void whenSearch() {
+        SimpleArrayDeque<String> deque = new SimpleArrayDeque<>();
+        deque.addAll(List.of("Kate", "Leo", "Kate"));
+        deque.addFirst("Tom");
+        Assert.assertTrue(deque.contains("Leo"));
+        Assert.assertFalse(deque.contains("Karl"));
+        Assert.assertEquals(1, deque.indexOf("Kate"));
+        Assert.assertEquals(3, deque.lastIndexOf("Kate"));
+        Assert.assertTrue(deque.remove("Leo"));
+        Assert.assertEquals(List.of("Tom", "Kate", "Kate"), deque);
+    }
+
+    @Test
+    public void whenClearAndReuse() {
+        SimpleArrayDeque<Integer> deque = new SimpleArrayDeque<>();
+        deque.addFirst(1);
+        deque.addFirst(2);
+        deque.clear();
+        Assert.assertTrue(deque.isEmpty());
+        deque.add(3);
+        Assert.assertEquals(List.of(3), deque);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void whenModifyListAfterGetIter() {
+        SimpleArrayDeque<String> deque = new SimpleArrayDeque<>();
+        deque.add("Hector");
+        Iterator<String> it = deque.iterator();
+        deque.addFirst("Walter");
+        it.next();
+    }
+
+    @Test
+    public void whenSortingThroughListSorting() {
+        SimpleArrayDeque<Integer> deque = new SimpleArrayDeque<>();
+        for (int i = 0; i < 100; i++) {
+            deque.addFirst(i % 7);
+        }
+        ListSorting.quickSort(deque);
+        for (int i = 1; i < deque.size(); i++) {
+            Assert.assertTrue(deque.get(i - 1) <= deque.get(i));
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package utils;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 public class SimpleArrayListTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void whenAddOne() {
         List<Integer> list = new SimpleArrayList<>();
@@ -179,6 +191,33 @@ public class SimpleArrayListTest {
         Assert.assertEquals(1, list.size());
     }
 
+    @Test
+    public void whenRemoveByIndexReturnsRemoved() {
+        List<Integer> list = new SimpleArrayList<>();
+        list.addAll(List.of(5, 6, 7, 8, 9));
+        Assert.assertEquals(Integer.valueOf(6), list.remove(1));
+        Assert.assertEquals(Integer.valueOf(9), list.remove(3));
+        Assert.assertEquals(List.of(5, 7, 8), list);
+
+        List<Integer> window = list.subList(1, 3);
+        Assert.assertEquals(Integer.valueOf(7), window.remove(0));
+        Assert.assertEquals(List.of(8), window);
+        Assert.assertEquals(List.of(5, 8), list);
+    }
+
+    @Test
+    public void whenLastIndexOf() {
+        List<Integer> list = new SimpleArrayList<>();
+        list.addAll(List.of(5, 0, 5, 7));
+        Assert.assertEquals(2, list.lastIndexOf(5));
+        Assert.assertEquals(1, list.lastIndexOf(0));
+        Assert.assertEquals(-1, list.lastIndexOf(8));
+        Assert.assertEquals(1, list.subList(0, 2).lastIndexOf(0));
+        Assert.assertEquals(-1, list.subList(0, 2).lastIndexOf(7));
+        list.add(null);
+        Assert.assertEquals(4, list.lastIndexOf(null));
+    }
+
     @Test
     public void whenRemoveFromEmpty() {
         List<Long> list = new SimpleArrayList<>();
@@ -260,6 +299,415 @@ public class SimpleArrayListTest {
         Assert.assertEquals("Walter", list.get(2));
     }
 
+    @Test
+    public void whenRemoveAllWithLargeList() {
+        List<Integer> list = new SimpleArrayList<>();
+        List<Integer> toRemove = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i % 100);
+            if (i % 2 == 0 && i < 100) {
+                toRemove.add(i);
+            }
+        }
+        Assert.assertTrue(list.removeAll(toRemove));
+        Assert.assertEquals(500, list.size());
+        for (Integer value : list) {
+            Assert.assertEquals(1, value % 2);
+        }
+        Assert.assertFalse(list.removeAll(toRemove));
+    }
+
+    @Test
+    public void whenRetainAllWithLargeList() {
+        List<String> list = new SimpleArrayList<>();
+        List<String> retainList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add("s" + i);
+            retainList.add("s" + (i * 10));
+        }
+        Assert.assertTrue(list.retainAll(retainList));
+        Assert.assertEquals(10, list.size());
+        Assert.assertEquals("s0", list.get(0));
+        Assert.assertEquals("s90", list.get(9));
+    }
+
+    /* Тесты на управление ёмкостью */
+    @Test
+    public void whenGrowFromZeroCapacityWithPolicy() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>(0, GrowthPolicy.ONE_AND_HALF);
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i);
+        }
+        Assert.assertEquals(1_000, list.size());
+        Assert.assertEquals(Integer.valueOf(999), list.get(999));
+    }
+
+    @Test
+    public void whenAddAllInMiddleGrowsOnce() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>(2, GrowthPolicy.additive(1));
+        list.add(1);
+        list.add(5);
+        List<Integer> batch = List.of(2, 3, 4);
+        Assert.assertTrue(list.addAll(1, batch));
+        Assert.assertTrue(list.addAll(List.of(6, 7, 8, 9)));
+        Assert.assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9), list);
+    }
+
+    @Test
+    public void whenEnsureCapacityAndTrim() {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.ensureCapacity(100);
+        list.add("Hector");
+        list.add("Gustavo");
+        List<String> snapshot = list.snapshot();
+        list.trimToSize();
+        list.add("Walter");
+        list.set(0, "Tuco");
+        Assert.assertEquals(List.of("Tuco", "Gustavo", "Walter"), list);
+        Assert.assertEquals(List.of("Hector", "Gustavo"), snapshot);
+    }
+
+    @Test
+    public void whenClearWithZeroCapacity() {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.trimToSize();
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+
+        SimpleArrayList<String> zero = new SimpleArrayList<>(0);
+        zero.clear();
+        zero.add("Hector");
+        Assert.assertEquals(List.of("Hector"), zero);
+
+        SimpleArrayList<Integer> wrapped = SimpleArrayList.wrap(new Integer[0]);
+        wrapped.clear();
+        Assert.assertTrue(wrapped.isEmpty());
+    }
+
+    /* Тесты на хеш-индекс */
+    @Test
+    public void whenIndexFollowsAppendsAndChanges() {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.enableHashIndex();
+        list.add("Hector");
+        list.add("Gustavo");
+        list.add("Hector");
+        Assert.assertEquals(0, list.indexOf("Hector"));
+        Assert.assertTrue(list.contains("Gustavo"));
+
+        list.add("Walter");
+        list.addAll(List.of("Jesse", "Walter"));
+        Assert.assertEquals(3, list.indexOf("Walter"));
+        Assert.assertEquals(4, list.indexOf("Jesse"));
+
+        list.set(0, "Tuco");
+        Assert.assertEquals(2, list.indexOf("Hector"));
+        list.remove(1);
+        Assert.assertEquals(-1, list.indexOf("Gustavo"));
+        Assert.assertEquals(1, list.indexOf("Hector"));
+        list.sort(Comparator.naturalOrder());
+        Assert.assertEquals(0, list.indexOf("Hector"));
+        Assert.assertTrue(list.containsAll(List.of("Jesse", "Tuco", "Walter")));
+
+        list.add(null);
+        Assert.assertEquals(5, list.indexOf(null));
+        list.disableHashIndex();
+        Assert.assertEquals(5, list.indexOf(null));
+    }
+
+    /* Тесты на toArray, wrap и adopt */
+    @Test
+    public void whenAddAllFromSimpleArrayList() {
+        SimpleArrayList<String> source = new SimpleArrayList<>();
+        source.add("Hector");
+        source.add("Gustavo");
+        SimpleArrayList<String> target = new SimpleArrayList<>();
+        Assert.assertTrue(target.addAll(source));
+        Assert.assertTrue(target.containsAll(source));
+        Assert.assertEquals(List.of("Hector", "Gustavo"), target);
+        Assert.assertArrayEquals(new Object[]{"Hector", "Gustavo"}, source.toArray());
+    }
+
+    @Test
+    public void whenToTypedArray() {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.add("Hector");
+        list.add("Gustavo");
+        String[] small = list.toArray(new String[0]);
+        Assert.assertArrayEquals(new String[]{"Hector", "Gustavo"}, small);
+        String[] large = {"a", "b", "c", "d"};
+        Assert.assertSame(large, list.toArray(large));
+        Assert.assertArrayEquals(new String[]{"Hector", "Gustavo", null, "d"}, large);
+    }
+
+    @Test
+    public void whenWrapAndAdoptArray() {
+        String[] array = {"Hector", "Gustavo", "Walter", null};
+        SimpleArrayList<String> wrapped = SimpleArrayList.wrap(array);
+        Assert.assertEquals(4, wrapped.size());
+        wrapped.set(0, "Tuco");
+        Assert.assertEquals("Tuco", array[0]);
+
+        String[] buffer = new String[8];
+        buffer[0] = "Jesse";
+        SimpleArrayList<String> adopted = SimpleArrayList.adopt(buffer, 1);
+        adopted.add("Skyler");
+        Assert.assertEquals(List.of("Jesse", "Skyler"), adopted);
+        Assert.assertEquals("Skyler", buffer[1]);
+        for (int i = 0; i < 10; i++) {
+            adopted.add("Walter");
+        }
+        Assert.assertEquals(12, adopted.size());
+        Assert.assertEquals(Object[].class, adopted.toArray().getClass());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void whenAdoptWithTooLargeSize() {
+        SimpleArrayList.adopt(new Integer[2], 3);
+    }
+
+    /* Тесты на сохранение в файл */
+    @Test
+    public void whenWriteAndReadBack() throws IOException {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.add("Hector");
+        list.add("Густаво");
+        list.add("");
+        Path file = folder.newFile().toPath();
+        list.writeTo(file, ElementCodec.STRING);
+
+        SimpleArrayList<String> loaded = SimpleArrayList.readFrom(file, ElementCodec.STRING);
+        Assert.assertEquals(List.of("Hector", "Густаво", ""), loaded);
+        loaded.add("Walter");
+        Assert.assertEquals(4, loaded.size());
+    }
+
+    @Test(expected = IOException.class)
+    public void whenReadIntFileAsObjectList() throws IOException {
+        IntArrayList ints = new IntArrayList();
+        ints.add(1);
+        Path file = folder.newFile().toPath();
+        ints.writeTo(file);
+        SimpleArrayList.readFrom(file, ElementCodec.INTEGER);
+    }
+
+    @Test(expected = IOException.class)
+    public void whenObjectHeaderCountExceedsFileSize() throws IOException {
+        Path file = writeObjectFile(GrowthPolicy.MAX_ARRAY_SIZE, new byte[]{0, 0, 0, 1});
+        SimpleArrayList.readFrom(file, ElementCodec.INTEGER);
+    }
+
+    @Test(expected = IOException.class)
+    public void whenObjectElementsTruncated() throws IOException {
+        Path file = writeObjectFile(3, new byte[]{0, 0, 0, 1, 0, 0, 0, 2, 0, 0});
+        SimpleArrayList.readFrom(file, ElementCodec.INTEGER);
+    }
+
+    @Test(expected = IOException.class)
+    public void whenStringLengthNegative() throws IOException {
+        Path file = writeObjectFile(1, new byte[]{-1, -1, -1, -1, 65});
+        SimpleArrayList.readFrom(file, ElementCodec.STRING);
+    }
+
+    @Test(expected = IOException.class)
+    public void whenStringLengthBeyondFile() throws IOException {
+        Path file = writeObjectFile(1, new byte[]{0x7F, 0, 0, 0, 65, 66});
+        SimpleArrayList.readFrom(file, ElementCodec.STRING);
+    }
+
+    private Path writeObjectFile(long count, byte[] body) throws IOException {
+        Path file = folder.newFile().toPath();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            BinaryListFormat.writeHeader(channel, BinaryListFormat.TYPE_OBJECT, count);
+            channel.write(ByteBuffer.wrap(body));
+        }
+        return file;
+    }
+
+    /* Тесты на ListIterator */
+    @Test
+    public void whenListIteratorModifiesInPlace() {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.addAll(List.of("Hector", "Gustavo", "Walter"));
+        ListIterator<String> it = list.listIterator();
+        Assert.assertEquals("Hector", it.next());
+        it.set("Tuco");
+        Assert.assertEquals("Gustavo", it.next());
+        it.remove();
+        it.add("Jesse");
+        Assert.assertEquals(2, it.nextIndex());
+        Assert.assertEquals("Walter", it.next());
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals("Walter", it.previous());
+        Assert.assertEquals("Jesse", it.previous());
+        Assert.assertEquals(List.of("Tuco", "Jesse", "Walter"), list);
+    }
+
+    @Test
+    public void whenListIteratorStartsFromIndex() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        list.addAll(List.of(1, 2, 3));
+        ListIterator<Integer> it = list.listIterator(3);
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals(Integer.valueOf(3), it.previous());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void whenListIteratorRemoveTwice() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        list.addAll(List.of(1, 2, 3));
+        ListIterator<Integer> it = list.listIterator();
+        it.next();
+        it.remove();
+        it.remove();
+    }
+
+    /* Тесты на subList */
+    @Test
+    public void whenSubListIsView() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(9 - i);
+        }
+        List<Integer> window = list.subList(2, 6);
+        Assert.assertEquals(List.of(7, 6, 5, 4), window);
+        window.sort(Comparator.naturalOrder());
+        Assert.assertEquals(List.of(9, 8, 4, 5, 6, 7, 3, 2, 1, 0), list);
+
+        window.set(0, 40);
+        Assert.assertEquals(Integer.valueOf(40), list.get(2));
+        window.add(100);
+        Assert.assertEquals(Integer.valueOf(100), list.get(6));
+        Assert.assertEquals(5, window.size());
+        Assert.assertTrue(window.removeAll(List.of(5, 6, 9)));
+        Assert.assertEquals(List.of(40, 7, 100), window);
+        Assert.assertEquals(List.of(9, 8, 40, 7, 100, 3, 2, 1, 0), list);
+
+        window.clear();
+        Assert.assertEquals(List.of(9, 8, 3, 2, 1, 0), list);
+    }
+
+    @Test
+    public void whenSubListOfWrappedArrayToArray() {
+        SimpleArrayList<String> list = SimpleArrayList.wrap(new String[]{"Hector", "Gustavo", "Walter"});
+        Object[] array = list.subList(1, 3).toArray();
+        Assert.assertEquals(Object[].class, array.getClass());
+        Assert.assertArrayEquals(new Object[]{"Gustavo", "Walter"}, array);
+    }
+
+    @Test
+    public void whenNestedSubListUpdatesParents() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        list.addAll(List.of(0, 1, 2, 3, 4, 5));
+        List<Integer> outer = list.subList(1, 5);
+        List<Integer> inner = outer.subList(1, 3);
+        inner.remove(0);
+        inner.addAll(List.of(20, 21));
+        Assert.assertEquals(List.of(3, 20, 21), inner);
+        Assert.assertEquals(List.of(1, 3, 20, 21, 4), outer);
+        Assert.assertEquals(List.of(0, 1, 3, 20, 21, 4, 5), list);
+        Assert.assertArrayEquals(new Object[]{3, 20, 21}, inner.toArray());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void whenListChangedBehindSubList() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        list.addAll(List.of(0, 1, 2, 3));
+        List<Integer> window = list.subList(1, 3);
+        list.add(4);
+        window.get(0);
+    }
+
+    /* Тесты на сплитератор */
+    @Test
+    public void whenParallelStreamSum() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            list.add(i);
+        }
+        Assert.assertEquals(5_000_050_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+        Assert.assertEquals(List.of(1, 2, 3), list.stream().limit(3).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void whenSplitInHalves() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        Spliterator<Integer> spliterator = list.spliterator();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        Assert.assertEquals(10, spliterator.estimateSize());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(5, prefix.estimateSize());
+        Assert.assertEquals(5, spliterator.estimateSize());
+        List<Integer> seen = new ArrayList<>();
+        prefix.forEachRemaining(seen::add);
+        Assert.assertTrue(spliterator.tryAdvance(seen::add));
+        Assert.assertEquals(List.of(0, 1, 2, 3, 4, 5), seen);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void whenModifiedDuringSpliteratorTraversal() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        list.add(1);
+        list.add(2);
+        list.spliterator().forEachRemaining(list::add);
+    }
+
+    /* Тесты на снимки списка */
+    @Test
+    public void whenSnapshotSurvivesAppendAndSet() {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.add("Hector");
+        list.add("Gustavo");
+        List<String> snapshot = list.snapshot();
+        Iterator<String> it = snapshot.iterator();
+
+        list.add("Walter");
+        list.set(0, "Tuco");
+        list.remove(1);
+
+        Assert.assertEquals("Hector", it.next());
+        Assert.assertEquals("Gustavo", it.next());
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals(List.of("Hector", "Gustavo"), snapshot);
+        Assert.assertEquals(List.of("Tuco", "Walter"), list.snapshot());
+    }
+
+    @Test
+    public void whenSnapshotOfWrappedArrayToArray() {
+        SimpleArrayList<String> list = SimpleArrayList.wrap(new String[]{"Hector", "Gustavo"});
+        Object[] array = list.snapshot().toArray();
+        Assert.assertEquals(Object[].class, array.getClass());
+        array[0] = 1;
+        Assert.assertEquals(List.of("Hector", "Gustavo"), list);
+    }
+
+    @Test
+    public void whenSnapshotSurvivesSortAndClear() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        List<Integer> snapshot = list.snapshot();
+        list.sort(Comparator.naturalOrder());
+        List<Integer> sorted = list.snapshot();
+        list.clear();
+        list.add(7);
+
+        Assert.assertEquals(List.of(3, 1, 2), snapshot);
+        Assert.assertEquals(List.of(1, 2, 3), sorted);
+        Assert.assertEquals(1, list.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void whenModifySnapshot() {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.add("Hector");
+        list.snapshot().set(0, "Walter");
+    }
+
     /* Тесты на итератор*/
 
     @Test
@@ -362,4 +810,175 @@ public class SimpleArrayListTest {
         Assert.assertEquals("Dog", list.get(0));
     }
 
+    @Test
+    public void whenSortingSortedAndReversedLarge() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+
+        list.sort(Comparator.naturalOrder());
+        for (int i = 0; i < list.size(); i++) {
+            Assert.assertEquals(i, (int) list.get(i));
+        }
+
+        list.sort(Comparator.reverseOrder());
+        list.sort(Comparator.naturalOrder());
+        for (int i = 0; i < list.size(); i++) {
+            Assert.assertEquals(i, (int) list.get(i));
+        }
+    }
+
+    @Test
+    public void whenThreeWaySortingManyDuplicates() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            list.add(random.nextInt(3));
+        }
+
+        list.sort(Comparator.naturalOrder(), PartitionMode.THREE_WAY);
+
+        for (int i = 1; i < list.size(); i++) {
+            Assert.assertTrue(list.get(i - 1) <= list.get(i));
+        }
+        Assert.assertEquals(100_000, list.size());
+    }
+
+    @Test
+    public void whenThreeWaySortingUsual() {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.addAll(List.of("Eagle", "Pig", "Boar", "Wolf", "Tiger", "Pig"));
+
+        list.sort(Comparator.naturalOrder(), PartitionMode.THREE_WAY);
+
+        Assert.assertEquals("Boar", list.get(0));
+        Assert.assertEquals("Eagle", list.get(1));
+        Assert.assertEquals("Pig", list.get(2));
+        Assert.assertEquals("Pig", list.get(3));
+        Assert.assertEquals("Tiger", list.get(4));
+        Assert.assertEquals("Wolf", list.get(5));
+    }
+
+    @Test
+    public void whenParallelSortingLarge() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(9);
+        for (int i = 0; i < 200_000; i++) {
+            int value = random.nextInt(50_000);
+            list.add(value);
+            expected.add(value);
+        }
+        Collections.sort(expected);
+
+        list.parallelSort(Comparator.naturalOrder());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void whenParallelSortingSortedInOwnPool() {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            list.parallelSort(Comparator.reverseOrder(), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            Assert.assertEquals(99_999 - i, list.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void whenParallelSortingSmall() {
+        SimpleArrayList<String> list = new SimpleArrayList<>();
+        list.addAll(List.of("Eagle", "Pig", "Boar"));
+        list.parallelSort(Comparator.naturalOrder());
+        Assert.assertEquals("Boar", list.get(0));
+        Assert.assertEquals("Eagle", list.get(1));
+        Assert.assertEquals("Pig", list.get(2));
+    }
+
+    @Test
+    public void whenThreeWaySortingAdversarialInput() {
+        int n = 20_000;
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        AntiQuickSort adversary = new AntiQuickSort(n);
+
+        list.sort(adversary, PartitionMode.THREE_WAY);
+
+        assertSortedBy(adversary, list);
+        Assert.assertTrue(adversary.comparisons < 10L * n * 15);
+    }
+
+    @Test
+    public void whenParallelSortingAdversarialInput() {
+        int n = 100_000;
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        AntiQuickSort adversary = new AntiQuickSort(n);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            list.parallelSort(adversary, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertSortedBy(adversary, list);
+        Assert.assertTrue(adversary.comparisons < 10L * n * 17);
+    }
+
+    private static void assertSortedBy(Comparator<Integer> c, List<Integer> list) {
+        for (int i = 1; i < list.size(); i++) {
+            Assert.assertTrue(c.compare(list.get(i - 1), list.get(i)) <= 0);
+        }
+    }
+
+    /**
+     * Компаратор-противник Макилроя (A Killer Adversary for Quicksort):
+     * значения элементов назначаются во время сравнений так, чтобы
+     * быстрая сортировка выбирала худший опорный элемент
+     */
+    private static class AntiQuickSort implements Comparator<Integer> {
+        private final int[] values;
+        private final int gas;
+        private int solid;
+        private int candidate = -1;
+        private long comparisons;
+
+        AntiQuickSort(int n) {
+            values = new int[n];
+            gas = n;
+            Arrays.fill(values, gas);
+        }
+
+        @Override
+        public synchronized int compare(Integer a, Integer b) {
+            comparisons++;
+            if (values[a] == gas && values[b] == gas) {
+                values[a == candidate ? a : b] = solid++;
+            }
+            if (values[a] == gas) {
+                candidate = a;
+            } else if (values[b] == gas) {
+                candidate = b;
+            }
+            return Integer.compare(values[a], values[b]);
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class SortedArrayListTest {
+
+    @Test
+    public void whenAddKeepsOrder() {
+        SortedArrayList<Integer> list = new SortedArrayList<>();
+        Random random = new Random(5);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int value = random.nextInt(500);
+            list.add(value);
+            expected.add(value);
+        }
+        expected.sort(Comparator.naturalOrder());
+        Assert.assertEquals(expected, list);
+    }
+
+    @Test
+    public void whenSearchWithBinarySearch() {
+        SortedArrayList<Integer> list = new SortedArrayList<>();
+        list.addAll(List.of(5, 1, 3, 3, 3, 9));
+        Assert.assertEquals(List.of(1, 3, 3, 3, 5, 9), list);
+        Assert.assertTrue(list.contains(9));
+        Assert.assertFalse(list.contains(4));
+        Assert.assertEquals(1, list.indexOf(3));
+        Assert.assertEquals(3, list.lastIndexOf(3));
+        Assert.assertEquals(-1, list.indexOf(10));
+        Assert.assertTrue(list.remove(Integer.valueOf(3)));
+        Assert.assertEquals(List.of(1, 3, 3, 5, 9), list);
+    }
+
+    @Test
+    public void whenRangeQuery() {
+        SortedArrayList<String> list = new SortedArrayList<>();
+        list.addAll(List.of("Walter", "Hector", "Gustavo", "Jesse", "Tuco"));
+        Assert.assertEquals(List.of("Hector", "Jesse"), list.range("H", "T"));
+        Assert.assertEquals(2, list.countRange("H", "T"));
+        Assert.assertEquals(0, list.countRange("X", "A"));
+        Assert.assertTrue(list.range("X", "A").isEmpty());
+    }
+
+    @Test
+    public void whenMergeKeepsInsertionOrderOfEqualKeys() {
+        SortedArrayList<String> list = new SortedArrayList<>(Comparator.comparingInt(String::length));
+        list.add("bb");
+        list.add("dddd");
+        list.addAll(List.of("cc", "a", "eeee"));
+        Assert.assertEquals(List.of("a", "bb", "cc", "dddd", "eeee"), list);
+        Assert.assertEquals(2, list.indexOf("cc"));
+        Assert.assertEquals(-1, list.indexOf("xx"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void whenSetIsNotSupported() {
+        SortedArrayList<Integer> list = new SortedArrayList<>();
+        list.add(1);
+        list.set(0, 2);
+    }
+}
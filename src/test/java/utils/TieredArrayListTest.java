@@ -0,0 +1,111 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class TieredArrayListTest {
+
+    @Test
+    public void whenAddAndGet() {
+        List<String> list = new TieredArrayList<>();
+        list.add("Kate");
+        list.add("Leo");
+        list.add(1, "Tom");
+        Assert.assertEquals(List.of("Kate", "Tom", "Leo"), list);
+        Assert.assertEquals("Tom", list.set(1, "Karl"));
+        Assert.assertEquals("Karl", list.get(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void whenGetOutOfRange() {
+        List<String> list = new TieredArrayList<>();
+        list.add("Kate");
+        list.get(1);
+    }
+
+    @Test
+    public void whenRandomInsertsAndRemovesMatchArrayList() {
+        List<Integer> list = new TieredArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(4);
+        for (int i = 0; i < 40_000; i++) {
+            int op = random.nextInt(5);
+            if (op < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                Assert.assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                list.add(i);
+                expected.add(i);
+            }
+        }
+        Assert.assertEquals(expected.size(), list.size());
+        Assert.assertEquals(expected, list);
+        Assert.assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    @Test
+    public void whenGrowAndShrinkToEmpty() {
+        List<Integer> list = new TieredArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i / 2, i);
+        }
+        Assert.assertEquals(100_000, list.size());
+        while (!list.isEmpty()) {
+            list.remove(list.size() / 2);
+        }
+        list.add(7);
+        Assert.assertEquals(List.of(7), list);
+    }
+
+    @Test
+    public void whenAddAllInTheMiddle() {
+        List<Integer> list = new TieredArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        List<Integer> small = List.of(-1, -2);
+        List<Integer> large = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            large.add(-i);
+        }
+
+        list.addAll(500, small);
+        expected.addAll(500, small);
+        list.addAll(10, large);
+        expected.addAll(10, large);
+        list.addAll(large);
+        expected.addAll(large);
+
+        Assert.assertEquals(expected, list);
+        Assert.assertFalse(list.addAll(3, List.of()));
+    }
+
+    @Test
+    public void whenSearchAndClear() {
+        List<String> list = new TieredArrayList<>();
+        list.addAll(List.of("Hector", "Gustavo", "Walter"));
+        Assert.assertTrue(list.contains("Walter"));
+        Assert.assertEquals(1, list.indexOf("Gustavo"));
+        Assert.assertEquals(-1, list.indexOf("Tuco"));
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertFalse(list.contains("Walter"));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void whenModifyListAfterGetIter() {
+        List<String> list = new TieredArrayList<>();
+        list.add("Hector");
+        Iterator<String> it = list.iterator();
+        list.add(0, "Walter");
+        it.next();
+    }
+}